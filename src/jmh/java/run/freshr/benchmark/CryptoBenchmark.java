@@ -0,0 +1,55 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.security.KeyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.freshr.common.utils.CryptoUtil;
+
+/**
+ * RSA 성능 측정
+ *
+ * @author FreshR
+ * @apiNote {@link CryptoUtil} 의 키 생성, 암호화, 복호화 성능 측정
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CryptoBenchmark {
+
+  private String encodePublicKey;
+  private String encodePrivateKey;
+  private String encrypt;
+
+  @Setup
+  public void setup() {
+    KeyPair keyPar = CryptoUtil.getKeyPar();
+
+    encodePublicKey = CryptoUtil.encodePublicKey(keyPar.getPublic());
+    encodePrivateKey = CryptoUtil.encodePrivateKey(keyPar.getPrivate());
+    encrypt = CryptoUtil.encryptRsa("user000@freshr.run", encodePublicKey);
+  }
+
+  @Benchmark
+  public KeyPair getKeyPar() {
+    return CryptoUtil.getKeyPar();
+  }
+
+  @Benchmark
+  public String encryptRsa() {
+    return CryptoUtil.encryptRsa("user000@freshr.run", encodePublicKey);
+  }
+
+  @Benchmark
+  public String decryptRsa() {
+    return CryptoUtil.decryptRsa(encrypt, encodePrivateKey);
+  }
+
+}
@@ -0,0 +1,52 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static run.freshr.domain.account.enumerations.AccountStatus.ACTIVE;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.freshr.common.enumerations.Gender;
+import run.freshr.common.utils.MapperUtil;
+import run.freshr.domain.account.entity.Account;
+import run.freshr.domain.auth.dto.response.AccountResponse;
+import run.freshr.domain.auth.enumerations.Privilege;
+
+/**
+ * Entity 변환 성능 측정
+ *
+ * @author FreshR
+ * @apiNote 내 정보 조회에서 사용하는 {@link Account} > {@link AccountResponse} 변환 성능 측정
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class MapperBenchmark {
+
+  private Account account;
+
+  @Setup
+  public void setup() {
+    account = Account
+        .builder()
+        .id("A-AI-000")
+        .privilege(Privilege.USER)
+        .status(ACTIVE)
+        .gender(Gender.OTHERS)
+        .username("user000@freshr.run")
+        .nickname("user000")
+        .password("password")
+        .build();
+  }
+
+  @Benchmark
+  public AccountResponse map() {
+    return MapperUtil.map(account, AccountResponse.class);
+  }
+
+}
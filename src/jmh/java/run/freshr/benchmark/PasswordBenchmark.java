@@ -0,0 +1,45 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 비밀번호 검증 성능 측정
+ *
+ * @author FreshR
+ * @apiNote SecurityConfiguration 과 같은 {@link BCryptPasswordEncoder} 설정으로 측정
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class PasswordBenchmark {
+
+  private BCryptPasswordEncoder passwordEncoder;
+  private String encodePassword;
+
+  @Setup
+  public void setup() {
+    passwordEncoder = new BCryptPasswordEncoder();
+    encodePassword = passwordEncoder.encode("1234");
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return passwordEncoder.matches("1234", encodePassword);
+  }
+
+  @Benchmark
+  public boolean mismatches() {
+    return passwordEncoder.matches("4321", encodePassword);
+  }
+
+}
@@ -0,0 +1,84 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.convert.MappingRedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import run.freshr.domain.auth.enumerations.Role;
+import run.freshr.domain.auth.redis.AccessRedis;
+import run.freshr.domain.auth.redis.RefreshRedis;
+
+/**
+ * Redis Entity 직렬화 성능 측정
+ *
+ * @author FreshR
+ * @apiNote Redis repository 가 사용하는 {@link MappingRedisConverter} 로 직렬화, 역직렬화 성능 측정
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class RedisBenchmark {
+
+  private MappingRedisConverter converter;
+  private AccessRedis access;
+  private RefreshRedis refresh;
+  private RedisData accessData;
+  private RedisData refreshData;
+
+  @Setup
+  public void setup() {
+    converter = new MappingRedisConverter(new RedisMappingContext());
+    converter.afterPropertiesSet();
+
+    access = AccessRedis.builder()
+        .id("access-token")
+        .signId("A-AI-000")
+        .role(Role.ROLE_USER)
+        .build();
+    refresh = RefreshRedis.builder()
+        .id("refresh-token")
+        .access(access)
+        .build();
+
+    accessData = writeAccess();
+    refreshData = writeRefresh();
+  }
+
+  @Benchmark
+  public RedisData writeAccess() {
+    RedisData data = new RedisData();
+
+    converter.write(access, data);
+
+    return data;
+  }
+
+  @Benchmark
+  public AccessRedis readAccess() {
+    return converter.read(AccessRedis.class, accessData);
+  }
+
+  @Benchmark
+  public RedisData writeRefresh() {
+    RedisData data = new RedisData();
+
+    converter.write(refresh, data);
+
+    return data;
+  }
+
+  @Benchmark
+  public RefreshRedis readRefresh() {
+    return converter.read(RefreshRedis.class, refreshData);
+  }
+
+}
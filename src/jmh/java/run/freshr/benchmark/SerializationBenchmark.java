@@ -0,0 +1,117 @@
+package run.freshr.benchmark;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static run.freshr.domain.account.enumerations.AccountStatus.ACTIVE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import run.freshr.common.enumerations.Gender;
+import run.freshr.common.utils.MapperUtil;
+import run.freshr.domain.account.entity.Account;
+import run.freshr.domain.auth.dto.response.AccountResponse;
+import run.freshr.domain.auth.dto.response.RefreshTokenResponse;
+import run.freshr.domain.auth.dto.response.SignInResponse;
+import run.freshr.domain.auth.enumerations.Privilege;
+
+/**
+ * 응답 직렬화 성능 측정
+ *
+ * @author FreshR
+ * @apiNote JSON, CBOR, Smile 형식별 응답 DTO 직렬화, 역직렬화 시간 측정<br>
+ *          형식별 응답 크기는 setup 에서 출력
+ *          ({@code ./gradlew jmh -PjmhIncludes=SerializationBenchmark})
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class SerializationBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  public String format;
+
+  private ObjectMapper objectMapper;
+  private SignInResponse signIn;
+  private RefreshTokenResponse refresh;
+  private AccountResponse account;
+  private byte[] signInBytes;
+  private byte[] refreshBytes;
+  private byte[] accountBytes;
+
+  @Setup
+  public void setup() throws IOException {
+    Jackson2ObjectMapperBuilder builder = switch (format) {
+      case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+      case "smile" -> Jackson2ObjectMapperBuilder.smile();
+      default -> Jackson2ObjectMapperBuilder.json();
+    };
+
+    objectMapper = builder.serializationInclusion(NON_NULL).build();
+
+    // JWT 길이의 토큰
+    String token = "eyJhbGciOiJIUzUxMiJ9." + "x".repeat(180) + "." + "y".repeat(86);
+
+    signIn = SignInResponse.builder().accessToken(token).refreshToken(token).build();
+    refresh = RefreshTokenResponse.builder().accessToken(token).build();
+    account = MapperUtil.map(Account
+        .builder()
+        .id("A-AI-000")
+        .privilege(Privilege.USER)
+        .status(ACTIVE)
+        .gender(Gender.OTHERS)
+        .username("user000@freshr.run")
+        .nickname("user000")
+        .password("password")
+        .build(), AccountResponse.class);
+    account.setSignAt(LocalDateTime.now());
+
+    signInBytes = serializeSignIn();
+    refreshBytes = serializeRefresh();
+    accountBytes = serializeAccount();
+
+    System.out.printf("[Size] format=%s signIn=%dB refresh=%dB account=%dB%n",
+        format, signInBytes.length, refreshBytes.length, accountBytes.length);
+  }
+
+  @Benchmark
+  public byte[] serializeSignIn() throws IOException {
+    return objectMapper.writeValueAsBytes(signIn);
+  }
+
+  @Benchmark
+  public byte[] serializeRefresh() throws IOException {
+    return objectMapper.writeValueAsBytes(refresh);
+  }
+
+  @Benchmark
+  public byte[] serializeAccount() throws IOException {
+    return objectMapper.writeValueAsBytes(account);
+  }
+
+  @Benchmark
+  public SignInResponse deserializeSignIn() throws IOException {
+    return objectMapper.readValue(signInBytes, SignInResponse.class);
+  }
+
+  @Benchmark
+  public RefreshTokenResponse deserializeRefresh() throws IOException {
+    return objectMapper.readValue(refreshBytes, RefreshTokenResponse.class);
+  }
+
+  @Benchmark
+  public AccountResponse deserializeAccount() throws IOException {
+    return objectMapper.readValue(accountBytes, AccountResponse.class);
+  }
+
+}
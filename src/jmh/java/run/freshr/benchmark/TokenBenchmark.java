@@ -0,0 +1,88 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import run.freshr.common.data.EntityData;
+import run.freshr.common.security.SecurityConfiguration;
+import run.freshr.common.security.TokenProvider;
+
+/**
+ * JWT 발급, 검증 성능 측정
+ *
+ * @author FreshR
+ * @apiNote 서비스와 같은 설정 (application.yml, jwt-salt, access-expiration) 으로<br>
+ *          TokenProvider 와 설정 Bean 만 등록한 Spring context 를 띄워서<br>
+ *          {@link run.freshr.common.warmup.JitWarmUp} 과 같은 발급, 검증 경로를 측정
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class TokenBenchmark {
+
+  private static final String SIGN_ID = "A-AI-000";
+
+  private ConfigurableApplicationContext context;
+  private TokenProvider provider;
+  private String refreshToken;
+
+  @Setup
+  public void setup() {
+    context = new SpringApplicationBuilder(TokenConfiguration.class)
+        .web(WebApplicationType.NONE)
+        .bannerMode(Banner.Mode.OFF)
+        .logStartupInfo(false)
+        .run();
+    provider = context.getBean(TokenProvider.class);
+    refreshToken = provider.generateRefreshToken(SIGN_ID);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return provider.generateAccessToken(SIGN_ID);
+  }
+
+  @Benchmark
+  public void validateRefreshToken() {
+    provider.validateRefreshToken(refreshToken);
+  }
+
+  /**
+   * TokenProvider 설정
+   *
+   * @apiNote Security filter chain 은 web context 가 필요하므로 제외
+   */
+  @SpringBootConfiguration
+  @ImportAutoConfiguration({ConfigurationPropertiesAutoConfiguration.class,
+      PropertyPlaceholderAutoConfiguration.class})
+  @ComponentScan(basePackageClasses = {TokenProvider.class, EntityData.class},
+      excludeFilters = @Filter(type = ASSIGNABLE_TYPE, classes = SecurityConfiguration.class))
+  static class TokenConfiguration {
+
+  }
+
+}
@@ -0,0 +1,131 @@
+package run.freshr.loadtest;
+
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+import static run.freshr.common.utils.CryptoUtil.encryptRsa;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 인증 흐름 client
+ *
+ * @author FreshR
+ * @apiNote 실제 client 와 같은 순서로 AuthController 를 호출<br>
+ *          /crypto > RSA 암호화 > /sign-in > /info > /refresh
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class AuthFlowClient {
+
+  private static final String APPLICATION_JSON = "application/json";
+
+  private final HttpClient client;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final String baseUrl;
+
+  private final EndpointStats crypto = new EndpointStats("crypto");
+  private final EndpointStats signIn = new EndpointStats("sign-in");
+  private final EndpointStats info = new EndpointStats("info");
+  private final EndpointStats refresh = new EndpointStats("refresh");
+
+  public AuthFlowClient(String baseUrl, int concurrency) {
+    this.baseUrl = baseUrl;
+    this.client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newFixedThreadPool(concurrency))
+        .build();
+  }
+
+  /**
+   * 인증 흐름 실행
+   *
+   * @param username 계정 아이디
+   * @param password 계정 비밀번호
+   * @apiNote 단계가 실패하면 이후 단계는 실행하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void run(String username, String password) {
+    JsonNode publicKey = call(crypto, HttpRequest.newBuilder(uri("/crypto")).GET(), "key");
+
+    if (publicKey == null) {
+      return;
+    }
+
+    String rsa = publicKey.asText();
+    JsonNode tokens = call(signIn, HttpRequest.newBuilder(uri("/sign-in"))
+        .header("Content-Type", APPLICATION_JSON)
+        .POST(ofString(json(Map.of(
+            "rsa", rsa,
+            "username", encryptRsa(username, rsa),
+            "password", encryptRsa(password, rsa))))), null);
+
+    if (tokens == null) {
+      return;
+    }
+
+    String accessToken = tokens.path("accessToken").asText();
+    String refreshToken = tokens.path("refreshToken").asText();
+
+    call(info, HttpRequest.newBuilder(uri("/info"))
+        .header("Authorization", "Bearer " + accessToken)
+        .GET(), null);
+    call(refresh, HttpRequest.newBuilder(uri("/refresh"))
+        .header("Authorization", "Bearer " + refreshToken)
+        .header("Content-Type", APPLICATION_JSON)
+        .POST(ofString(json(Map.of("accessToken", accessToken)))), null);
+  }
+
+  public EndpointStats[] getStats() {
+    return new EndpointStats[]{crypto, signIn, info, refresh};
+  }
+
+  private JsonNode call(EndpointStats stats, HttpRequest.Builder builder, String field) {
+    long start = System.nanoTime();
+
+    try {
+      HttpResponse<String> response = client
+          .send(builder.timeout(Duration.ofSeconds(30)).build(), BodyHandlers.ofString());
+      boolean success = response.statusCode() / 100 == 2;
+
+      stats.record(start, success);
+
+      if (!success) {
+        return null;
+      }
+
+      JsonNode data = objectMapper.readTree(response.body()).path("data");
+
+      return field == null ? data : data.path(field);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stats.record(start, false);
+
+      return null;
+    } catch (Exception e) {
+      stats.record(start, false);
+
+      return null;
+    }
+  }
+
+  private URI uri(String path) {
+    return URI.create(baseUrl + path);
+  }
+
+  private String json(Map<String, String> body) {
+    try {
+      return objectMapper.writeValueAsString(body);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
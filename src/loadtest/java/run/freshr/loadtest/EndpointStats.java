@@ -0,0 +1,76 @@
+package run.freshr.loadtest;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Endpoint 별 통계
+ *
+ * @author FreshR
+ * @apiNote 응답 시간 분포와 성공, 실패 건수를 기록
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class EndpointStats {
+
+  private final String name;
+  private final Histogram histogram = new ConcurrentHistogram(MINUTES.toNanos(1), 3);
+  private final LongAdder errors = new LongAdder();
+
+  public EndpointStats(String name) {
+    this.name = name;
+  }
+
+  /**
+   * 응답 기록
+   *
+   * @param startNanos 요청 시작 시간
+   * @param success    성공 여부
+   * @apiNote 실패한 요청도 응답 시간에 포함
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void record(long startNanos, boolean success) {
+    histogram.recordValue(Math.min(System.nanoTime() - startNanos,
+        histogram.getHighestTrackableValue()));
+
+    if (!success) {
+      errors.increment();
+    }
+  }
+
+  /**
+   * 결과 출력
+   *
+   * @param out           출력 대상
+   * @param elapsedMillis 부하 유지 시간
+   * @apiNote 처리량과 백분위 응답 시간 출력
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void print(PrintStream out, long elapsedMillis) {
+    long count = histogram.getTotalCount();
+
+    out.printf("%-10s count=%-8d errors=%-6d rps=%-9.1f "
+            + "p50=%-8.2f p90=%-8.2f p99=%-8.2f p99.9=%-8.2f max=%.2f (ms)%n",
+        name,
+        count,
+        errors.sum(),
+        elapsedMillis == 0 ? 0 : count * 1000.0 / elapsedMillis,
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  private static double millis(long nanos) {
+    return nanos / (double) NANOSECONDS.convert(1, MILLISECONDS);
+  }
+
+}
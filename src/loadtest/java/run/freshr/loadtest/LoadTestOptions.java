@@ -0,0 +1,66 @@
+package run.freshr.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ *
+ * @param baseUrl     서비스 주소 (context-path 포함)
+ * @param concurrency 동시에 실행할 수 있는 최대 흐름 수
+ * @param rate        초당 시작할 흐름 수
+ * @param duration    부하 유지 시간
+ * @param accounts    순환해서 사용할 계정 수
+ * @param username    계정 아이디 형식 ({@link String#format} 으로 계정 순번을 전달)
+ * @param password    계정 비밀번호
+ * @param label       결과 구분 이름 (e.g. platform, virtual)
+ * @author FreshR
+ * @apiNote {@code --key=value} 형식의 인자로 설정
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public record LoadTestOptions(
+    String baseUrl,
+    int concurrency,
+    int rate,
+    Duration duration,
+    int accounts,
+    String username,
+    String password,
+    String label
+) {
+
+  /**
+   * 인자 변환
+   *
+   * @param args {@code --key=value} 형식의 인자
+   * @return load test options
+   * @apiNote 전달하지 않은 설정은 TestRunner 가 생성하는 계정 기준의 기본 값을 사용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public static LoadTestOptions parse(String[] args) {
+    Map<String, String> map = new HashMap<>();
+
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        continue;
+      }
+
+      int index = arg.indexOf('=');
+
+      map.put(arg.substring(2, index), arg.substring(index + 1));
+    }
+
+    return new LoadTestOptions(
+        map.getOrDefault("base-url", "http://localhost:50103/auth"),
+        Integer.parseInt(map.getOrDefault("concurrency", "32")),
+        Integer.parseInt(map.getOrDefault("rate", "50")),
+        Duration.ofSeconds(Long.parseLong(map.getOrDefault("duration", "60"))),
+        Integer.parseInt(map.getOrDefault("accounts", "15")),
+        map.getOrDefault("username", "user%03d@freshr.run"),
+        map.getOrDefault("password", "1234"),
+        map.getOrDefault("label", "default"));
+  }
+
+}
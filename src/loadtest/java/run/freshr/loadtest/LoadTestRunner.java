@@ -0,0 +1,77 @@
+package run.freshr.loadtest;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 실행
+ *
+ * @author FreshR
+ * @apiNote 설정한 도착률 (rate) 로 인증 흐름을 시작하고, 동시 실행 수 (concurrency) 를 넘는 흐름은 버린다.<br>
+ *          docker-compose 또는 Testcontainers 로 띄운 서비스를 대상으로 실행<br>
+ *          {@code ./gradlew loadTest -PloadTestArgs="--rate=100 --concurrency=64 --duration=120"}<br>
+ *          platform thread 와 virtual thread 비교는 같은 인자로 --label 만 바꿔서 실행
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class LoadTestRunner {
+
+  public static void main(String[] args) throws InterruptedException {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    AuthFlowClient client = new AuthFlowClient(options.baseUrl(), options.concurrency());
+    ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+    ScheduledExecutorService arrival = Executors.newSingleThreadScheduledExecutor();
+    Semaphore inFlight = new Semaphore(options.concurrency());
+    AtomicLong sequence = new AtomicLong();
+    LongAdder rejected = new LongAdder();
+
+    System.out.printf("[LoadTest] label=%s target=%s rate=%d/s concurrency=%d duration=%ds%n",
+        options.label(), options.baseUrl(), options.rate(), options.concurrency(),
+        options.duration().getSeconds());
+
+    long start = System.nanoTime();
+
+    arrival.scheduleAtFixedRate(() -> {
+      if (!inFlight.tryAcquire()) {
+        rejected.increment();
+
+        return;
+      }
+
+      String username = options.username()
+          .formatted(sequence.getAndIncrement() % options.accounts());
+
+      workers.execute(() -> {
+        try {
+          client.run(username, options.password());
+        } finally {
+          inFlight.release();
+        }
+      });
+    }, 0, NANOSECONDS.convert(1, SECONDS) / options.rate(), NANOSECONDS);
+
+    SECONDS.sleep(options.duration().getSeconds());
+
+    arrival.shutdownNow();
+    workers.shutdown();
+    workers.awaitTermination(30, SECONDS);
+
+    long elapsedMillis = NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    System.out.printf("[LoadTest] elapsed=%dms started=%d dropped=%d%n",
+        elapsedMillis, sequence.get(), rejected.sum());
+
+    for (EndpointStats stats : client.getStats()) {
+      stats.print(System.out, elapsedMillis);
+    }
+
+    System.exit(0);
+  }
+
+}
@@ -0,0 +1,183 @@
+package run.freshr.loadtest;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시간 측정
+ *
+ * @author FreshR
+ * @apiNote 서비스 process 를 실행하고 readiness 가 200 을 응답할 때까지의 시간과<br>
+ *          readiness 이후 첫 번째 요청 (RSA 공개키 발급) 의 응답 시간,<br>
+ *          첫 번째 요청 이후의 RSS (Linux, 실행한 process 와 하위 process 합계) 를 측정<br>
+ *          RSS 는 jar, native 실행 파일을 직접 실행할 때만 의미가 있다. (docker 는 client 의 RSS)<br>
+ *          {@code ./gradlew startupTime -PstartupArgs="--runs=5 --command=docker run auth"}<br>
+ *          일반 image 와 -Pstartup image 비교는 같은 인자로 --command, --label 만 바꿔서 실행
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class StartupTimer {
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> map = parse(args);
+    List<String> command = List.of(map.getOrDefault("command",
+        "docker run --rm -p 50103:50103 auth").split(" "));
+    String baseUrl = map.getOrDefault("base-url", "http://localhost:50103/auth");
+    int runs = Integer.parseInt(map.getOrDefault("runs", "5"));
+    Duration timeout = Duration.ofSeconds(Long.parseLong(map.getOrDefault("timeout", "180")));
+    String label = map.getOrDefault("label", "default");
+    HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(1))
+        .build();
+    List<Long> readyList = new ArrayList<>();
+    List<Long> firstList = new ArrayList<>();
+    List<Long> rssList = new ArrayList<>();
+
+    System.out.printf("[Startup] label=%s command=%s runs=%d%n",
+        label, String.join(" ", command), runs);
+
+    for (int run = 1; run <= runs; run++) {
+      long start = System.nanoTime();
+      Process process = new ProcessBuilder(command)
+          .redirectErrorStream(true)
+          .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+          .start();
+
+      try {
+        waitReady(client, baseUrl + "/readiness", process, start, timeout);
+
+        long ready = NANOSECONDS.toMillis(System.nanoTime() - start);
+        long firstStart = System.nanoTime();
+        int status = send(client, baseUrl + "/crypto");
+        long first = NANOSECONDS.toMillis(System.nanoTime() - firstStart);
+        long rss = rss(process.toHandle());
+
+        readyList.add(ready);
+        firstList.add(first);
+        rssList.add(rss);
+
+        System.out.printf("[Startup] run=%d ready=%dms first-request=%dms (%d) rss=%dMB%n",
+            run, ready, first, status, rss / 1024);
+      } finally {
+        process.destroy();
+
+        if (!process.waitFor(30, SECONDS)) {
+          process.destroyForcibly();
+        }
+      }
+    }
+
+    System.out.printf(
+        "[Startup] label=%s ready avg=%dms min=%dms first-request avg=%dms rss avg=%dMB%n",
+        label, average(readyList), readyList.stream().mapToLong(Long::longValue).min().orElse(0),
+        average(firstList), average(rssList) / 1024);
+
+    System.exit(0);
+  }
+
+  /**
+   * readiness 대기
+   *
+   * @param client  http client
+   * @param url     readiness 주소
+   * @param process 서비스 process
+   * @param start   process 시작 시간 (nano)
+   * @param timeout 최대 대기 시간
+   * @apiNote 연결 실패와 503 은 기동 중으로 판단하고 50ms 간격으로 다시 확인
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private static void waitReady(HttpClient client, String url, Process process, long start,
+      Duration timeout) throws InterruptedException {
+    while (System.nanoTime() - start < timeout.toNanos()) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("process exited with " + process.exitValue());
+      }
+
+      try {
+        if (send(client, url) == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // 기동 중
+      }
+
+      Thread.sleep(50);
+    }
+
+    throw new IllegalStateException("not ready in " + timeout.getSeconds() + "s");
+  }
+
+  /**
+   * RSS 조회
+   *
+   * @param handle process handle
+   * @return process 와 하위 process 의 VmRSS 합계 (kB), 조회할 수 없으면 0
+   * @apiNote /proc/{pid}/status 를 읽으므로 Linux 에서만 지원
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private static long rss(ProcessHandle handle) {
+    return Stream.concat(Stream.of(handle), handle.descendants())
+        .mapToLong(process -> {
+          try (Stream<String> lines = Files.lines(Path.of("/proc", process.pid() + "", "status"))) {
+            return lines
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .sum();
+          } catch (IOException | UncheckedIOException e) {
+            return 0;
+          }
+        })
+        .sum();
+  }
+
+  private static int send(HttpClient client, String url)
+      throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+        .timeout(Duration.ofSeconds(5))
+        .GET()
+        .build();
+
+    return client.send(request, BodyHandlers.discarding()).statusCode();
+  }
+
+  private static long average(List<Long> values) {
+    return (long) values.stream().mapToLong(Long::longValue).average().orElse(0);
+  }
+
+  private static Map<String, String> parse(String[] args) {
+    Map<String, String> map = new HashMap<>();
+    String key = null;
+
+    // --command 값은 공백을 포함하므로 다음 --key= 전까지 이어 붙인다.
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        int index = arg.indexOf('=');
+
+        key = arg.substring(2, index);
+
+        map.put(key, arg.substring(index + 1));
+      } else if (key != null) {
+        map.put(key, map.get(key) + " " + arg);
+      }
+    }
+
+    return map;
+  }
+
+}
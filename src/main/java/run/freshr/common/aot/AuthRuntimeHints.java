@@ -0,0 +1,166 @@
+package run.freshr.common.aot;
+
+import static org.springframework.aot.hint.MemberCategory.DECLARED_FIELDS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_DECLARED_CONSTRUCTORS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_DECLARED_METHODS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_METHODS;
+
+import jakarta.persistence.Entity;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Native image reachability metadata
+ *
+ * @author FreshR
+ * @apiNote Spring AOT 가 찾을 수 없는 reflection, resource 사용을 native image 에 등록<br>
+ *          - JJWT: builder, parser, 알고리즘 registry 를 class 이름으로 생성하고<br>
+ *            Jackson 직렬화를 ServiceLoader 로 조회<br>
+ *          - QueryDSL: Q-type 의 field, 생성자<br>
+ *          - DTO: ResponseEntity&lt;?&gt; 로 응답하므로 Spring AOT 가 유형을 알 수 없는<br>
+ *            Lombok DTO 의 Jackson 직렬화, ModelMapper 변환<br>
+ *          - Entity: ModelMapper 가 DTO 로 변환할 때 getter 사용<br>
+ *          - EnumMapper: Enum 목록 API 에서 EnumModel 의 method 호출<br>
+ *          - run.freshr library: jsoup entity resource, p6spy factory<br>
+ *          run.freshr 아래의 유형은 AOT 처리 시점에 classpath 를 탐색해서 등록하므로<br>
+ *          DTO, Q-type 을 추가해도 여기에 목록을 추가할 필요가 없다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+public class AuthRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final String BASE_PACKAGE = "run.freshr";
+
+  private static final List<String> JJWT_TYPES = List.of(
+      "io.jsonwebtoken.impl.DefaultJwtBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+      "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+      "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardKeyOperations",
+      "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardCurves",
+      "io.jsonwebtoken.impl.security.KeysBridge",
+      "io.jsonwebtoken.impl.security.JwksBridge",
+      "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+      "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+      "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+      "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+      "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+      "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+      "io.jsonwebtoken.jackson.io.JacksonSerializer",
+      "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+  private static final List<String> P6SPY_TYPES = List.of(
+      "com.p6spy.engine.spy.P6SpyFactory",
+      "com.p6spy.engine.logging.P6LogFactory",
+      "com.p6spy.engine.spy.appender.Slf4JLogger",
+      "com.p6spy.engine.spy.appender.SingleLineFormat",
+      "com.p6spy.engine.spy.appender.CustomLineFormat");
+
+  private final BindingReflectionHintsRegistrar bindingRegistrar =
+      new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    registerJjwt(hints);
+    registerLibraries(hints);
+
+    // QueryDSL Q-type
+    scan(classLoader, new AssignableTypeFilter(
+        ClassUtils.resolveClassName("com.querydsl.core.types.dsl.EntityPathBase", classLoader)))
+        .forEach(type -> hints.reflection().registerType(type,
+            DECLARED_FIELDS, INVOKE_DECLARED_CONSTRUCTORS));
+
+    // DTO, Enum, EnumMapper: Jackson, ModelMapper
+    scan(classLoader, new RegexPatternTypeFilter(Pattern.compile(
+        "run\\.freshr\\.(.+\\.dto\\..+|.+\\.enumerations\\..+|common\\.mappers\\..+)")))
+        .forEach(type -> bindingRegistrar.registerReflectionHints(hints.reflection(), type));
+
+    // Entity: ModelMapper
+    scan(classLoader, new AnnotationTypeFilter(Entity.class))
+        .forEach(type -> hints.reflection().registerType(type,
+            DECLARED_FIELDS, INVOKE_DECLARED_CONSTRUCTORS, INVOKE_PUBLIC_METHODS));
+  }
+
+  /**
+   * JJWT 등록
+   *
+   * @param hints runtime hints
+   * @apiNote jjwt-api 는 jjwt-impl 의 구현체를 class 이름으로 생성하고,<br>
+   *          jjwt-jackson 은 META-INF/services 로 찾는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void registerJjwt(RuntimeHints hints) {
+    JJWT_TYPES.forEach(name -> hints.reflection().registerType(TypeReference.of(name),
+        INVOKE_DECLARED_CONSTRUCTORS, INVOKE_DECLARED_METHODS));
+
+    hints.resources()
+        .registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer")
+        .registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer");
+  }
+
+  /**
+   * run.freshr library 의존성 등록
+   *
+   * @param hints runtime hints
+   * @apiNote library-core-utils 의 jsoup 은 HTML entity 목록을 resource 로 읽고,<br>
+   *          p6spy 는 spy.properties 에 설정한 class 이름으로 factory, logger 를 생성
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void registerLibraries(RuntimeHints hints) {
+    P6SPY_TYPES.forEach(name -> hints.reflection().registerType(TypeReference.of(name),
+        INVOKE_DECLARED_CONSTRUCTORS));
+
+    hints.resources()
+        .registerPattern("org/jsoup/nodes/*.properties")
+        .registerPattern("spy.properties");
+  }
+
+  /**
+   * run.freshr 유형 탐색
+   *
+   * @param classLoader class loader
+   * @param filter      filter
+   * @return 유형 목록
+   * @apiNote interface, abstract class 를 포함해서 탐색
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private static List<Class<?>> scan(ClassLoader classLoader, TypeFilter filter) {
+    ClassPathScanningCandidateComponentProvider provider =
+        new ClassPathScanningCandidateComponentProvider(false) {
+          @Override
+          protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+            return beanDefinition.getMetadata().isIndependent();
+          }
+        };
+
+    provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+    provider.addIncludeFilter(filter);
+
+    return provider.findCandidateComponents(BASE_PACKAGE)
+        .stream()
+        .map(BeanDefinition::getBeanClassName)
+        .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+        .toList();
+  }
+
+}
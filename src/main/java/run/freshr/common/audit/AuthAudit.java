@@ -0,0 +1,515 @@
+package run.freshr.common.audit;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static run.freshr.common.audit.AuthAuditProperties.Overflow.SPILL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import run.freshr.common.throttle.SignInThrottle;
+
+/**
+ * 인증 감사 기록
+ *
+ * @author FreshR
+ * @apiNote 요청 thread 는 이벤트를 {@link AuthAuditQueue} 에 넣기만 하고 바로 반환<br>
+ *          worker thread 하나가 대기열을 비우면서 Elasticsearch bulk 요청으로 색인<br>
+ *          - bulk 기준: batch-size 개 또는 batch-bytes 크기, 아니면 flush-interval 마다<br>
+ *          - 대기열이 가득 차면 overflow 정책 (drop, spill) 으로 처리<br>
+ *          - spill 은 넘친 이벤트를 spill 대기열에 넣고 worker 가 파일에 기록하므로 요청 thread 는 파일 I/O 를 하지 않는다.<br>
+ *          - 색인에 실패한 bulk 는 spill 이면 파일에 기록하고, Elasticsearch 가 복구되면 다시 색인<br>
+ *          - 이벤트 아이디를 문서 아이디로 색인하므로 같은 이벤트를 다시 색인해도 중복되지 않는다.<br>
+ *          - 색인 이름은 이벤트 발생 날짜 기준<br>
+ *          web server 의 graceful shutdown 이 끝난 뒤에 종료되도록 phase 를 낮게 설정해서<br>
+ *          종료 중에 처리된 요청의 이벤트도 대기열에 들어간 뒤 색인<br>
+ *          Elasticsearch client 는 worker 가 처음 색인할 때 생성<br>
+ *          결과는 auth.audit (result: queued, dropped, spilled, indexed, failed),<br>
+ *          대기열 크기는 auth.audit.queue 로 기록
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AuthAuditProperties.class)
+public class AuthAudit implements SmartLifecycle {
+
+  private static final DateTimeFormatter INDEX_DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd")
+      .withZone(UTC);
+  private static final long IDLE_PARK = MILLISECONDS.toNanos(50);
+  private static final long REPLAY_BACKOFF = MILLISECONDS.toNanos(30000);
+
+  private final AuthAuditProperties properties;
+  private final ObjectMapper objectMapper;
+  private final ObjectProvider<ElasticsearchOperations> elasticsearchOperations;
+
+  private final AuthAuditQueue queue;
+  private final AuthAuditQueue overflow;
+  private final AuthAuditSpill spill;
+
+  private final Counter queuedCounter;
+  private final Counter droppedCounter;
+  private final Counter spilledCounter;
+  private final Counter indexedCounter;
+  private final Counter failedCounter;
+
+  private volatile boolean running;
+  private volatile Thread worker;
+
+  private long replayAfter; // worker thread 전용
+
+  public AuthAudit(AuthAuditProperties properties, ObjectMapper objectMapper,
+      ObjectProvider<ElasticsearchOperations> elasticsearchOperations,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.queue = new AuthAuditQueue(properties.getCapacity());
+    this.overflow = new AuthAuditQueue(properties.getSpillCapacity());
+    this.spill = new AuthAuditSpill(Path.of(properties.getSpillPath()));
+    this.queuedCounter = counter(meterRegistry, "queued");
+    this.droppedCounter = counter(meterRegistry, "dropped");
+    this.spilledCounter = counter(meterRegistry, "spilled");
+    this.indexedCounter = counter(meterRegistry, "indexed");
+    this.failedCounter = counter(meterRegistry, "failed");
+
+    Gauge.builder("auth.audit.queue", queue, AuthAuditQueue::size)
+        .description("Audit events waiting to be indexed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 이벤트 기록
+   *
+   * @param type      유형
+   * @param accountId 계정 일련 번호
+   * @param username  요청 아이디
+   * @param reason    사유
+   * @apiNote 현재 요청의 client IP, User-Agent 를 함께 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void record(AuthAuditType type, String accountId, String username, String reason) {
+    if (RequestContextHolder.getRequestAttributes()
+        instanceof ServletRequestAttributes attributes) {
+      HttpServletRequest request = attributes.getRequest();
+
+      record(type, accountId, username, reason, SignInThrottle.getClientIp(request),
+          request.getHeader(HttpHeaders.USER_AGENT));
+    } else {
+      record(type, accountId, username, reason, null, null);
+    }
+  }
+
+  /**
+   * 이벤트 기록
+   *
+   * @param type      유형
+   * @param accountId 계정 일련 번호
+   * @param username  요청 아이디
+   * @param reason    사유
+   * @param ip        client IP
+   * @param userAgent User-Agent
+   * @apiNote 요청 thread 가 아닌 곳 (reactive 처리) 에서 요청 thread 에서 추출한 정보로 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void record(AuthAuditType type, String accountId, String username, String reason,
+      String ip, String userAgent) {
+    if (!properties.getEnabled()) {
+      return;
+    }
+
+    publish(AuthAuditEvent.builder()
+        .id(UUID.randomUUID().toString())
+        .timestamp(Instant.now())
+        .type(type)
+        .accountId(accountId)
+        .username(username)
+        .ip(ip)
+        .userAgent(userAgent)
+        .reason(reason)
+        .build());
+  }
+
+  /**
+   * 이벤트 추가
+   *
+   * @param event 이벤트
+   * @apiNote 대기하지 않는다. 대기열이 bulk 크기만큼 차면 worker 를 깨운다.<br>
+   *          대기열이 가득 차고 overflow 가 spill 이면 spill 대기열에 넣고 worker 를 깨운다.<br>
+   *          spilled 는 worker 가 파일에 기록한 뒤에 증가<br>
+   *          아이디가 없으면 새로 부여
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void publish(AuthAuditEvent event) {
+    if (event.getId() == null) {
+      event.setId(UUID.randomUUID().toString());
+    }
+
+    if (queue.offer(event)) {
+      queuedCounter.increment();
+
+      if (queue.size() >= properties.getBatchSize()) {
+        LockSupport.unpark(worker);
+      }
+
+      return;
+    }
+
+    if (properties.getOverflow() == SPILL && overflow.offer(event)) {
+      LockSupport.unpark(worker);
+
+      return;
+    }
+
+    droppedCounter.increment();
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    worker = new Thread(this::work, "auth-audit");
+
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * 종료
+   *
+   * @apiNote worker 가 대기열을 비울 때까지 최대 flush-interval + 5초 대기<br>
+   *          spill 파일은 worker 가 끝날 때 닫으므로 대기 시간이 지나도 여기서 닫지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @Override
+  public void stop() {
+    running = false;
+
+    Thread thread = worker;
+
+    if (thread != null) {
+      LockSupport.unpark(thread);
+
+      try {
+        thread.join(properties.getFlushInterval() + 5000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (thread.isAlive()) {
+        log.warn("[Audit] worker still running after {}ms",
+            properties.getFlushInterval() + 5000);
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024;
+  }
+
+  /**
+   * Worker
+   *
+   * @apiNote 종료 요청 후에도 대기열, spill 대기열이 빌 때까지 처리하고 마지막에 spill 파일을 닫는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private void work() {
+    while (running || queue.size() > 0 || overflow.size() > 0) {
+      List<IndexQuery> batch = nextBatch();
+
+      try {
+        spillOverflow();
+
+        if (!batch.isEmpty()) {
+          if (index(batch) && queue.size() == 0) {
+            replay();
+          }
+        } else if (running) {
+          spill.flush();
+
+          if (System.nanoTime() - replayAfter >= 0) {
+            replay();
+          }
+        }
+      } catch (Exception e) {
+        log.warn("[Audit] worker error: {}", e.getMessage());
+      }
+    }
+
+    try {
+      spill.close();
+    } catch (UncheckedIOException e) {
+      log.warn("[Audit] spill close failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Spill 대기열 기록
+   *
+   * @apiNote 요청 thread 가 넘긴 이벤트를 spill 파일에 기록<br>
+   *          기록에 실패하면 버린다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private void spillOverflow() {
+    if (overflow.size() == 0) {
+      return;
+    }
+
+    List<String> lines = new ArrayList<>();
+
+    for (AuthAuditEvent event = overflow.poll(); event != null; event = overflow.poll()) {
+      lines.add(toJson(event));
+    }
+
+    try {
+      spill.append(lines);
+      spilledCounter.increment(lines.size());
+    } catch (IOException e) {
+      log.warn("[Audit] spill failed: {}", e.getMessage());
+
+      droppedCounter.increment(lines.size());
+    }
+  }
+
+  /**
+   * Bulk 구성
+   *
+   * @return 색인 요청 목록
+   * @apiNote batch-size, batch-bytes 에 도달하거나 flush-interval 이 지나면 반환
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private List<IndexQuery> nextBatch() {
+    List<IndexQuery> batch = new ArrayList<>();
+    long bytes = 0;
+    long deadline = System.nanoTime() + MILLISECONDS.toNanos(properties.getFlushInterval());
+
+    while (batch.size() < properties.getBatchSize() && bytes < properties.getBatchBytes()) {
+      AuthAuditEvent event = queue.poll();
+
+      if (event == null) {
+        long remain = deadline - System.nanoTime();
+
+        if (remain <= 0 || !running) {
+          break;
+        }
+
+        LockSupport.parkNanos(this, Math.min(remain, IDLE_PARK));
+
+        continue;
+      }
+
+      IndexQuery query = toQuery(event, toJson(event));
+
+      batch.add(query);
+      bytes += query.getSource().length();
+    }
+
+    return batch;
+  }
+
+  /**
+   * 색인
+   *
+   * @param batch 색인 요청 목록
+   * @return 성공 여부
+   * @apiNote 실패하면 overflow 정책에 따라 spill 파일에 기록하거나 버린다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private boolean index(List<IndexQuery> batch) {
+    if (bulk(batch)) {
+      return true;
+    }
+
+    if (properties.getOverflow() == SPILL) {
+      try {
+        spill.append(batch.stream().map(IndexQuery::getSource).toList());
+        spilledCounter.increment(batch.size());
+
+        return false;
+      } catch (IOException e) {
+        log.warn("[Audit] spill failed: {}", e.getMessage());
+      }
+    }
+
+    droppedCounter.increment(batch.size());
+
+    return false;
+  }
+
+  private boolean bulk(List<IndexQuery> batch) {
+    long start = System.nanoTime();
+
+    try {
+      elasticsearchOperations.getObject().bulkIndex(batch,
+          IndexCoordinates.of(indexName(Instant.now())));
+      indexedCounter.increment(batch.size());
+
+      log.debug("[Audit] indexed {} events in {}ms", batch.size(),
+          NANOSECONDS.toMillis(System.nanoTime() - start));
+
+      return true;
+    } catch (Exception e) {
+      log.warn("[Audit] bulk of {} events failed: {}", batch.size(), e.getMessage());
+
+      failedCounter.increment(batch.size());
+
+      return false;
+    }
+  }
+
+  /**
+   * Spill 파일 다시 색인
+   *
+   * @apiNote 한 번에 파일 하나를 batch-size 줄씩 읽어서 색인하고, 모두 성공하면 파일 삭제<br>
+   *          실패하면 파일을 남겨두고 새 이벤트 색인에 성공하거나 30초가 지난 뒤 처음부터 다시 색인<br>
+   *          이미 색인한 이벤트는 같은 문서 아이디로 덮어쓰므로 중복되지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private void replay() throws IOException {
+    if (properties.getOverflow() != SPILL) {
+      return;
+    }
+
+    Optional<Path> replay = spill.nextReplay();
+
+    if (replay.isEmpty()) {
+      return;
+    }
+
+    long replayed = 0;
+
+    try (BufferedReader reader = Files.newBufferedReader(replay.get(), StandardCharsets.UTF_8)) {
+      List<IndexQuery> batch = new ArrayList<>();
+      boolean end = false;
+
+      while (!end) {
+        String line = reader.readLine();
+
+        end = line == null;
+
+        if (!end) {
+          fromJson(line).ifPresent(batch::add);
+        }
+
+        if (batch.size() >= properties.getBatchSize() || (end && !batch.isEmpty())) {
+          if (!bulk(batch)) {
+            replayAfter = System.nanoTime() + REPLAY_BACKOFF;
+
+            return;
+          }
+
+          replayed += batch.size();
+          batch.clear();
+        }
+      }
+    }
+
+    Files.delete(replay.get());
+
+    log.info("[Audit] replayed {} spilled events", replayed);
+  }
+
+  /**
+   * 색인 요청 생성
+   *
+   * @param event 이벤트
+   * @param json  이벤트 JSON
+   * @return 색인 요청
+   * @apiNote 이벤트 아이디를 문서 아이디로, 발생 날짜의 색인에 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private IndexQuery toQuery(AuthAuditEvent event, String json) {
+    return new IndexQueryBuilder()
+        .withId(event.getId())
+        .withSource(json)
+        .withIndex(indexName(
+            event.getTimestamp() == null ? Instant.now() : event.getTimestamp()))
+        .build();
+  }
+
+  /**
+   * Spill 파일 줄 변환
+   *
+   * @param json 이벤트 JSON
+   * @return 색인 요청, 읽을 수 없는 줄 (종료 중 잘린 줄 등) 이면 empty
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Optional<IndexQuery> fromJson(String json) {
+    if (json.isBlank()) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(toQuery(objectMapper.readValue(json, AuthAuditEvent.class), json));
+    } catch (JsonProcessingException e) {
+      log.warn("[Audit] skipped unreadable spilled event: {}", e.getOriginalMessage());
+
+      return Optional.empty();
+    }
+  }
+
+  private String indexName(Instant timestamp) {
+    return properties.getIndex() + "-" + INDEX_DATE.format(timestamp);
+  }
+
+  private String toJson(AuthAuditEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("auth.audit")
+        .description("Auth audit events by pipeline result")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+}
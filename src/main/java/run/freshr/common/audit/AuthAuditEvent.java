@@ -0,0 +1,34 @@
+package run.freshr.common.audit;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인증 감사 이벤트
+ *
+ * @author FreshR
+ * @apiNote Elasticsearch 에 그대로 색인되는 문서<br>
+ *          아이디는 문서 아이디로도 사용하므로 다시 색인해도 중복되지 않는다.
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthAuditEvent {
+
+  private String id; // 이벤트 아이디 (색인 문서 아이디)
+  @JsonProperty("@timestamp")
+  private Instant timestamp; // 발생 날짜 시간
+  private AuthAuditType type; // 유형
+  private String accountId; // 계정 일련 번호
+  private String username; // 요청 아이디 (로그인 실패, 차단)
+  private String ip; // client IP
+  private String userAgent; // User-Agent
+  private String reason; // 사유
+
+}
@@ -0,0 +1,95 @@
+package run.freshr.common.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인증 감사 설정
+ *
+ * @author FreshR
+ * @apiNote 인증 감사 설정
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Data
+@ConfigurationProperties(prefix = "freshr.audit")
+public class AuthAuditProperties {
+
+  /**
+   * 사용 여부
+   *
+   * @apiNote false 면 이벤트를 기록하지 않는다.
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Boolean enabled = true;
+
+  /**
+   * 대기열 크기
+   *
+   * @apiNote 대기열이 가득 차면 overflow 정책으로 처리
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer capacity = 10000;
+
+  /**
+   * Bulk 요청 최대 이벤트 수
+   *
+   * @apiNote 이벤트 수 또는 크기 중 먼저 도달한 기준으로 bulk 요청
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer batchSize = 500;
+
+  /**
+   * Bulk 요청 최대 크기 (byte)
+   *
+   * @apiNote 이벤트 수 또는 크기 중 먼저 도달한 기준으로 bulk 요청
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long batchBytes = 5L * 1024 * 1024;
+
+  /**
+   * 최대 대기 시간 (ms)
+   *
+   * @apiNote 기준에 도달하지 않아도 이 시간이 지나면 bulk 요청
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long flushInterval = 1000L;
+
+  /**
+   * Overflow 정책
+   *
+   * @apiNote drop: 버림, spill: 파일에 기록한 뒤 Elasticsearch 가 복구되면 다시 색인
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Overflow overflow = Overflow.DROP;
+
+  /**
+   * Spill 경로
+   *
+   * @apiNote overflow 가 spill 일 때 사용
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private String spillPath = System.getProperty("java.io.tmpdir") + "/freshr-audit";
+
+  /**
+   * Spill 대기열 크기
+   *
+   * @apiNote overflow 가 spill 일 때 대기열이 가득 차서 넘친 이벤트를 worker 가 파일에 기록할 때까지 보관<br>
+   *          이 대기열도 가득 차면 버린다.
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer spillCapacity = 1000;
+
+  /**
+   * 색인 이름 접두사
+   *
+   * @apiNote {prefix}-yyyy.MM.dd 일별 색인
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private String index = "auth-audit";
+
+  public enum Overflow {
+    DROP,
+    SPILL
+  }
+
+}
@@ -0,0 +1,73 @@
+package run.freshr.common.audit;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증 감사 대기열
+ *
+ * @author FreshR
+ * @apiNote lock 을 사용하지 않는 크기 제한 대기열<br>
+ *          크기는 CAS 로 먼저 확보한 뒤 {@link ConcurrentLinkedQueue} 에 추가하므로<br>
+ *          요청 thread 는 대기하지 않고, 가득 차면 바로 false 를 반환<br>
+ *          여러 요청 thread 가 추가하고 worker thread 하나가 꺼낸다.
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class AuthAuditQueue {
+
+  private final ConcurrentLinkedQueue<AuthAuditEvent> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final int capacity;
+
+  public AuthAuditQueue(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * 추가
+   *
+   * @param event 이벤트
+   * @return 추가 여부, 가득 찼으면 false
+   * @apiNote 추가
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public boolean offer(AuthAuditEvent event) {
+    int current;
+
+    do {
+      current = size.get();
+
+      if (current >= capacity) {
+        return false;
+      }
+    } while (!size.compareAndSet(current, current + 1));
+
+    queue.offer(event);
+
+    return true;
+  }
+
+  /**
+   * 꺼내기
+   *
+   * @return 이벤트, 비어 있으면 null
+   * @apiNote 꺼내기
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public AuthAuditEvent poll() {
+    AuthAuditEvent event = queue.poll();
+
+    if (event != null) {
+      size.decrementAndGet();
+    }
+
+    return event;
+  }
+
+  public int size() {
+    return size.get();
+  }
+
+}
@@ -0,0 +1,127 @@
+package run.freshr.common.audit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 인증 감사 spill 파일
+ *
+ * @author FreshR
+ * @apiNote 색인하지 못한 이벤트를 JSON 한 줄씩 audit.spill 에 추가<br>
+ *          {@link AuthAudit} 의 worker thread 만 사용하므로 요청 thread 는 파일 I/O 를 하지 않는다.<br>
+ *          다시 색인할 때는 현재 파일을 audit-{시간}.replay 로 교체한 뒤 읽는다.<br>
+ *          worker 가 종료될 때 직접 {@link #close()} 하므로 사용 중에 닫히지 않는다.
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class AuthAuditSpill {
+
+  private static final String SPILL_FILE = "audit.spill";
+  private static final String REPLAY_SUFFIX = ".replay";
+
+  private final Path path;
+
+  private BufferedWriter writer;
+
+  public AuthAuditSpill(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Worker 기록
+   *
+   * @param lines 이벤트 JSON 목록
+   * @throws IOException 파일을 쓸 수 없는 경우
+   * @apiNote 색인에 실패한 bulk, 대기열에서 넘친 이벤트를 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void append(List<String> lines) throws IOException {
+    BufferedWriter out = writer();
+
+    for (String line : lines) {
+      out.write(line);
+      out.newLine();
+    }
+
+    out.flush();
+  }
+
+  public void flush() throws IOException {
+    if (writer != null) {
+      writer.flush();
+    }
+  }
+
+  /**
+   * 다시 색인할 파일 조회
+   *
+   * @return replay 파일, 없으면 empty
+   * @throws IOException 파일을 교체할 수 없는 경우
+   * @apiNote 남아 있는 replay 파일이 있으면 먼저 반환하고,<br>
+   *          없으면 현재 spill 파일을 replay 파일로 교체
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public Optional<Path> nextReplay() throws IOException {
+    if (!Files.isDirectory(path)) {
+      return Optional.empty();
+    }
+
+    try (Stream<Path> files = Files.list(path)) {
+      Optional<Path> replay = files
+          .filter(file -> file.getFileName().toString().endsWith(REPLAY_SUFFIX))
+          .sorted()
+          .findFirst();
+
+      if (replay.isPresent()) {
+        return replay;
+      }
+    }
+
+    Path spill = path.resolve(SPILL_FILE);
+
+    if (writer != null) {
+      writer.close();
+      writer = null;
+    }
+
+    if (!Files.exists(spill) || Files.size(spill) == 0) {
+      return Optional.empty();
+    }
+
+    return Optional.of(Files.move(spill,
+        path.resolve("audit-" + System.currentTimeMillis() + REPLAY_SUFFIX)));
+  }
+
+  public void close() {
+    try {
+      if (writer != null) {
+        writer.close();
+        writer = null;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private BufferedWriter writer() throws IOException {
+    if (writer == null) {
+      Files.createDirectories(path);
+
+      writer = Files.newBufferedWriter(path.resolve(SPILL_FILE), UTF_8, CREATE, APPEND);
+    }
+
+    return writer;
+  }
+
+}
@@ -0,0 +1,21 @@
+package run.freshr.common.audit;
+
+/**
+ * 인증 감사 이벤트 유형
+ *
+ * @author FreshR
+ * @apiNote 인증 감사 이벤트 유형
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public enum AuthAuditType {
+
+  SIGN_IN, // 로그인
+  SIGN_IN_FAILURE, // 로그인 실패
+  SIGN_IN_BLOCKED, // 로그인 차단
+  SIGN_OUT, // 로그아웃
+  REFRESH, // Access 토큰 갱신
+  REFRESH_EXPIRED, // 인증 유지 기간 만료
+  REFRESH_THEFT, // Refresh 토큰 탈취 감지
+  WITHDRAWAL // 탈퇴
+
+}
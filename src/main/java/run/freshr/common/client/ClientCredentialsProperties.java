@@ -0,0 +1,70 @@
+package run.freshr.common.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import run.freshr.domain.auth.enumerations.Role;
+
+/**
+ * Client credentials 설정
+ *
+ * @author FreshR
+ * @apiNote 배치, 내부 서비스 계정 설정<br>
+ *          secret 원문은 저장하지 않고 key 로 만든 HMAC-SHA256 hex 값만 설정 서버에 저장
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Data
+@ConfigurationProperties(prefix = "freshr.client-credentials")
+public class ClientCredentialsProperties {
+
+  /**
+   * Secret hash key
+   *
+   * @apiNote 설정하지 않으면 모든 client 인증이 실패한다.<br>
+   *          환경 변수 FRESHR_CLIENTCREDENTIALS_KEY 로 주입
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private String key;
+
+  /**
+   * 토큰 재사용 최소 남은 시간 (초)
+   *
+   * @apiNote 발급한 토큰의 남은 시간이 이 값 이상이면 새로 발급하지 않고 그대로 반환
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long minRemaining = 300L;
+
+  /**
+   * Client 목록
+   *
+   * @apiNote key 는 client 아이디
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Map<String, Client> clients = new LinkedHashMap<>();
+
+  @Data
+  public static class Client {
+
+    /**
+     * Secret hash
+     *
+     * @apiNote HMAC-SHA256(key, secret) hex
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private String secret;
+
+    /**
+     * 권한
+     *
+     * @apiNote 발급한 토큰의 권한<br>
+     *          계정 권한과 구분된 client 전용 권한이 없으므로 기본값은 ROLE_ANONYMOUS 로 두어<br>
+     *          계정 권한이 필요한 endpoint 를 호출할 수 없게 한다.<br>
+     *          다른 권한을 설정해도 계정을 조회하는 기능은 client 토큰을 거절
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Role role = Role.ROLE_ANONYMOUS;
+
+  }
+
+}
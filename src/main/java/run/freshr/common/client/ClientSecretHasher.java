@@ -0,0 +1,109 @@
+package run.freshr.common.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.util.StringUtils.hasLength;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client secret 검증
+ *
+ * @author FreshR
+ * @apiNote secret 은 기계가 만든 충분히 긴 무작위 값이므로 bcrypt 대신 keyed hash (HMAC-SHA256) 로 검증<br>
+ *          설정 값이 유출되어도 key 없이는 secret 을 대입해 볼 수 없다.<br>
+ *          비교는 {@link MessageDigest#isEqual} 로 길이만큼 항상 끝까지 비교<br>
+ *          Mac 은 thread 안전하지 않으므로 key 로 초기화한 원본을 복제해서 사용<br>
+ *          (virtual thread 는 요청마다 새 thread 라서 ThreadLocal 로는 재사용되지 않는다)
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Component
+@EnableConfigurationProperties(ClientCredentialsProperties.class)
+public class ClientSecretHasher {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final String key;
+  private final Mac prototype;
+
+  public ClientSecretHasher(ClientCredentialsProperties properties) {
+    this.key = properties.getKey();
+    this.prototype = hasLength(key) ? newMac(key) : null;
+  }
+
+  /**
+   * Hash
+   *
+   * @param secret secret 원문
+   * @return HMAC-SHA256 hex
+   * @apiNote 설정 값 생성용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public String hash(String secret) {
+    if (prototype == null) {
+      throw new IllegalStateException("freshr.client-credentials.key is not set");
+    }
+
+    return HexFormat.of().formatHex(digest(secret));
+  }
+
+  /**
+   * 검증
+   *
+   * @param secret secret 원문
+   * @param hash   설정된 hash, client 가 없으면 null
+   * @return 일치 여부
+   * @apiNote 없는 client 도 같은 계산을 해서 응답 시간으로 client 존재 여부를 알 수 없게 한다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public boolean matches(String secret, String hash) {
+    if (prototype == null || secret == null) {
+      return false;
+    }
+
+    byte[] actual = digest(secret);
+    byte[] expected = parse(hash);
+
+    return MessageDigest.isEqual(actual, expected) && expected.length > 0;
+  }
+
+  private byte[] digest(String secret) {
+    try {
+      return ((Mac) prototype.clone()).doFinal(secret.getBytes(UTF_8));
+    } catch (CloneNotSupportedException e) {
+      return newMac(key).doFinal(secret.getBytes(UTF_8));
+    }
+  }
+
+  private byte[] parse(String hash) {
+    if (!hasLength(hash)) {
+      return new byte[0];
+    }
+
+    try {
+      return HexFormat.of().parseHex(hash);
+    } catch (IllegalArgumentException e) {
+      return new byte[0];
+    }
+  }
+
+  private static Mac newMac(String key) {
+    try {
+      Mac instance = Mac.getInstance(ALGORITHM);
+
+      instance.init(new SecretKeySpec(key.getBytes(UTF_8), ALGORITHM));
+
+      return instance;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+package run.freshr.common.client;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Predicate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client 토큰 저장소
+ *
+ * @author FreshR
+ * @apiNote client 별 마지막으로 발급한 Access 토큰을 Redis 에 저장<br>
+ *          - key: client-token:{client 아이디}<br>
+ *          - value: {만료 시각 (ms)}:{Access 토큰}, key 유효 기간은 토큰 만료 시각까지<br>
+ *          GET 한 번으로 토큰과 남은 시간을 함께 조회하므로 여러 instance 가 같은 토큰을 재사용<br>
+ *          동시에 새로 발급하면 마지막에 저장한 토큰이 남고, 먼저 발급한 토큰도 만료 시각까지 유효<br>
+ *          재사용, 발급 횟수는 auth.client-token (result: reused, issued) 으로 기록<br>
+ *          Client 토큰의 Access 토큰 정보 signId 는 {@link #SUBJECT_PREFIX} + client 아이디로 저장해서<br>
+ *          계정 일련 번호와 겹치지 않게 하고, 계정을 조회하는 기능은 {@link #isClient(String)} 로 거절
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Component
+public class ClientTokenStore {
+
+  public static final String SUBJECT_PREFIX = "client:";
+
+  private static final String KEY_PREFIX = "client-token:";
+
+  private final StringRedisTemplate redisTemplate;
+
+  private final Counter reusedCounter;
+  private final Counter issuedCounter;
+
+  public ClientTokenStore(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.reusedCounter = counter(meterRegistry, "reused");
+    this.issuedCounter = counter(meterRegistry, "issued");
+  }
+
+  /**
+   * 재사용할 토큰 조회
+   *
+   * @param clientId     client 아이디
+   * @param minRemaining 최소 남은 시간 (초)
+   * @param active       토큰 유효 여부 (로그아웃 등으로 Access 토큰 정보가 삭제되었는지)
+   * @return 남은 시간이 최소 남은 시간 이상인 유효한 토큰, 없으면 null
+   * @apiNote 유효하지 않은 토큰은 삭제하고, 조회되면 reused 횟수를 증가
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public ClientToken find(String clientId, long minRemaining, Predicate<String> active) {
+    String value = redisTemplate.opsForValue().get(KEY_PREFIX + clientId);
+
+    if (value == null) {
+      return null;
+    }
+
+    int separator = value.indexOf(':');
+
+    if (separator < 0) {
+      return null;
+    }
+
+    long expiresIn = MILLISECONDS.toSeconds(
+        Long.parseLong(value, 0, separator, 10) - System.currentTimeMillis());
+
+    if (expiresIn < minRemaining) {
+      return null;
+    }
+
+    String token = value.substring(separator + 1);
+
+    if (!active.test(token)) {
+      delete(clientId);
+
+      return null;
+    }
+
+    reusedCounter.increment();
+
+    return new ClientToken(token, expiresIn);
+  }
+
+  /**
+   * 발급한 토큰 저장
+   *
+   * @param clientId   client 아이디
+   * @param token      Access 토큰
+   * @param expiration 유효 시간 (초)
+   * @return 저장한 토큰
+   * @apiNote 발급 직후에 호출하므로 만료 시각은 실제 JWT 만료 시각보다 늦지 않다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public ClientToken save(String clientId, String token, long expiration) {
+    long expireAt = System.currentTimeMillis() - 1000 + expiration * 1000;
+
+    redisTemplate.opsForValue().set(KEY_PREFIX + clientId, expireAt + ":" + token,
+        expireAt - System.currentTimeMillis(), MILLISECONDS);
+    issuedCounter.increment();
+
+    return new ClientToken(token, expiration - 1);
+  }
+
+  /**
+   * 저장한 토큰 삭제
+   *
+   * @param clientId client 아이디
+   * @apiNote 토큰이 더 이상 유효하지 않을 때 호출
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void delete(String clientId) {
+    redisTemplate.delete(KEY_PREFIX + clientId);
+  }
+
+  /**
+   * Client 토큰 signId
+   *
+   * @param clientId client 아이디
+   * @return signId
+   * @apiNote Access 토큰 정보, 감사 이벤트에 기록하는 client 식별자
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public static String subject(String clientId) {
+    return SUBJECT_PREFIX + clientId;
+  }
+
+  /**
+   * Client 토큰 여부
+   *
+   * @param signId Access 토큰 정보의 signId
+   * @return client 토큰이면 true
+   * @apiNote Client 토큰 여부
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public static boolean isClient(String signId) {
+    return signId != null && signId.startsWith(SUBJECT_PREFIX);
+  }
+
+  /**
+   * Client 아이디 조회
+   *
+   * @param signId Access 토큰 정보의 signId
+   * @return client 아이디, client 토큰이 아니면 null
+   * @apiNote Client 아이디 조회
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public static String clientId(String signId) {
+    return isClient(signId) ? signId.substring(SUBJECT_PREFIX.length()) : null;
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("auth.client-token")
+        .description("Client credentials tokens reused or issued")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class ClientToken {
+
+    /**
+     * Access 토큰
+     */
+    private final String accessToken;
+
+    /**
+     * 남은 시간 (초)
+     */
+    private final long expiresIn;
+
+  }
+
+}
@@ -0,0 +1,63 @@
+package run.freshr.common.concurrent;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 병렬 처리 실행기
+ *
+ * @author FreshR
+ * @apiNote RSA 복호화, 비밀번호 검증과 같은 CPU 작업을 요청 thread 의 I/O 와 병렬로 처리<br>
+ *          freshr.auth-executor.threads 가 0 이면 CPU 수만큼 thread 를 생성<br>
+ *          대기열은 freshr.auth-executor.queue-capacity 로 제한하고,<br>
+ *          가득 차면 (종료 중 포함) 작업을 요청 thread 에서 직접 실행해서 부하가 요청 thread 로 되돌아가게 한다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+public class AuthExecutor {
+
+  private final ExecutorService executorService;
+
+  public AuthExecutor(@Value("${freshr.auth-executor.threads:0}") int threads,
+      @Value("${freshr.auth-executor.queue-capacity:256}") int queueCapacity) {
+    AtomicInteger sequence = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "auth-executor-" + sequence.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    };
+
+    int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+    this.executorService = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+        (runnable, executor) -> runnable.run());
+  }
+
+  /**
+   * 병렬 처리 범위 생성
+   *
+   * @return task scope
+   * @apiNote 병렬 처리 범위 생성
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public TaskScope scope() {
+    return new TaskScope(executorService);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executorService.shutdown();
+  }
+
+}
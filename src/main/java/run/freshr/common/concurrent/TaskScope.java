@@ -0,0 +1,154 @@
+package run.freshr.common.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import run.freshr.common.metrics.RoundTrip;
+
+/**
+ * 구조적 병렬 처리 범위
+ *
+ * @author FreshR
+ * @apiNote 범위 안에서 시작한 작업은 범위를 벗어나기 전에 완료되거나 취소된다.<br>
+ *          한 작업이 실패하면 같은 범위의 나머지 작업을 모두 취소<br>
+ *          취소는 실행 중인 thread 를 interrupt 하고,<br>
+ *          close 는 실행 중인 작업이 실제로 끝날 때까지 기다리므로 범위 밖에서 작업이 계속 실행되지 않는다.<br>
+ *          try-with-resources 로 사용
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+public class TaskScope implements AutoCloseable {
+
+  private final Executor executor;
+  private final List<CompletableFuture<?>> tasks = new CopyOnWriteArrayList<>();
+  private final List<FutureTask<?>> runners = new CopyOnWriteArrayList<>();
+  private final List<CompletableFuture<Void>> finished = new CopyOnWriteArrayList<>();
+
+  public TaskScope(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * 작업 시작
+   *
+   * @param <T>      반환 유형
+   * @param supplier 작업
+   * @return task
+   * @apiNote 작업이 실패하면 범위의 나머지 작업을 취소
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public <T> CompletableFuture<T> fork(Supplier<T> supplier) {
+    CompletableFuture<T> task = new CompletableFuture<>();
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    FutureTask<T> runner = new FutureTask<>(supplier::get);
+
+    tasks.add(task);
+    runners.add(runner);
+    finished.add(done);
+    task.whenComplete((result, throwable) -> {
+      if (throwable != null) {
+        cancel();
+      }
+    });
+
+    // 요청 단위 집계를 작업 thread 로 전달
+    executor.execute(RoundTrip.propagate(() -> {
+      try {
+        runner.run();
+
+        // 실행 중에 취소되었으면 취소로 인한 interrupt 를 지워서 다음 작업 (요청 thread 포함) 에 남기지 않는다.
+        if (runner.isCancelled()) {
+          Thread.interrupted();
+        }
+
+        complete(task, runner);
+      } finally {
+        done.complete(null);
+      }
+    }));
+
+    return task;
+  }
+
+  /**
+   * 작업 결과 조회
+   *
+   * @param <T>  반환 유형
+   * @param task {@link #fork(Supplier)} 로 시작한 작업
+   * @return 작업 결과
+   * @apiNote 작업이 실패하면 나머지 작업을 취소하고 원래 예외를 그대로 던진다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public <T> T join(CompletableFuture<T> task) {
+    try {
+      return task.join();
+    } catch (CompletionException e) {
+      cancel();
+
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+
+      throw e;
+    } catch (CancellationException e) {
+      cancel();
+
+      throw e;
+    }
+  }
+
+  /**
+   * 작업 취소
+   *
+   * @apiNote 완료되지 않은 작업을 모두 취소하고 실행 중인 thread 는 interrupt
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void cancel() {
+    runners.forEach(runner -> runner.cancel(true));
+    tasks.forEach(task -> task.cancel(false));
+  }
+
+  /**
+   * 범위 종료
+   *
+   * @apiNote 완료되지 않은 작업을 취소한 뒤 실행 중인 작업이 끝날 때까지 대기
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public void close() {
+    cancel();
+
+    finished.forEach(CompletableFuture::join);
+  }
+
+  private static <T> void complete(CompletableFuture<T> task, FutureTask<T> runner) {
+    if (runner.isCancelled()) {
+      task.cancel(false);
+
+      return;
+    }
+
+    try {
+      task.complete(runner.get());
+    } catch (ExecutionException e) {
+      task.completeExceptionally(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      task.completeExceptionally(e);
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+package run.freshr.common.configurations;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary 응답 형식 설정
+ *
+ * @author FreshR
+ * @apiNote Accept header 가 application/cbor 또는 application/x-jackson-smile 이면<br>
+ *          같은 DTO 를 CBOR, Smile 로 응답<br>
+ *          Spring Boot 의 {@link Jackson2ObjectMapperBuilder} 로 생성해서<br>
+ *          JSON 과 같은 설정 (non_null, 날짜 형식, module) 을 사용
+ * @since 2024. 4. 2. 오전 10:01:07
+ */
+@Configuration
+public class ContentNegotiationConfiguration {
+
+  /**
+   * CBOR converter Bean 등록
+   *
+   * @param builder object mapper builder
+   * @return cbor http message converter
+   * @apiNote MVC 기본 CBOR converter 를 대체
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 10:01:07
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder
+        .createXmlMapper(false)
+        .factory(new CBORFactory())
+        .build());
+  }
+
+  /**
+   * Smile converter Bean 등록
+   *
+   * @param builder object mapper builder
+   * @return smile http message converter
+   * @apiNote MVC 기본 Smile converter 를 대체
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 10:01:07
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(builder
+        .createXmlMapper(false)
+        .factory(new SmileFactory())
+        .build());
+  }
+
+}
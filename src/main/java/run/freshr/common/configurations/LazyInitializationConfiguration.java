@@ -0,0 +1,82 @@
+package run.freshr.common.configurations;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 선택적 인프라 client 지연 생성 설정
+ *
+ * @author FreshR
+ * @apiNote 인증 흐름에서 사용하지 않는 client (Elasticsearch 등) 를 처음 사용할 때 생성하도록 설정<br>
+ *          freshr.lazy-init.types 에 설정한 유형의 bean 만 지연 생성하고, 나머지는 기존처럼 기동 시 생성<br>
+ *          지연 생성 bean 을 기동 시 생성되는 bean 이 주입받으면 그 시점에 생성된다.<br>
+ *          Spring AOT 처리 시에는 build 시점의 설정으로 확정
+ * @since 2024. 4. 2. 오전 10:01:07
+ */
+@Slf4j
+@Configuration
+public class LazyInitializationConfiguration {
+
+  /**
+   * 기본 지연 생성 유형
+   *
+   * @apiNote Elasticsearch client, template
+   * @since 2024. 4. 2. 오전 10:01:07
+   */
+  private static final List<String> DEFAULT_TYPES = List.of(
+      "co.elastic.clients.elasticsearch.ElasticsearchClient",
+      "co.elastic.clients.transport.ElasticsearchTransport",
+      "org.elasticsearch.client.RestClient",
+      "org.springframework.data.elasticsearch.core.ElasticsearchOperations");
+
+  /**
+   * 지연 생성 설정 Bean 등록
+   *
+   * @param environment environment
+   * @return bean factory post processor
+   * @apiNote bean 정의의 유형이 설정한 유형이면 lazy-init 으로 변경
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 10:01:07
+   */
+  @Bean
+  public static BeanFactoryPostProcessor lazyInitializationPostProcessor(Environment environment) {
+    Binder binder = Binder.get(environment);
+    boolean enabled = binder.bind("freshr.lazy-init.enabled", Boolean.class).orElse(true);
+    List<Class<?>> types = binder
+        .bind("freshr.lazy-init.types", Bindable.listOf(String.class))
+        .orElse(DEFAULT_TYPES)
+        .stream()
+        .filter(name -> ClassUtils.isPresent(name, null))
+        .<Class<?>>map(name -> ClassUtils.resolveClassName(name, null))
+        .toList();
+
+    return beanFactory -> {
+      if (!enabled) {
+        return;
+      }
+
+      for (String name : beanFactory.getBeanDefinitionNames()) {
+        BeanDefinition definition = beanFactory.getBeanDefinition(name);
+        Class<?> type = beanFactory.getType(name, false);
+
+        if (definition.isLazyInit() || type == null
+            || types.stream().noneMatch(lazy -> lazy.isAssignableFrom(type))) {
+          continue;
+        }
+
+        definition.setLazyInit(true);
+
+        log.debug("[LazyInit] {} ({})", name, type.getName());
+      }
+    };
+  }
+
+}
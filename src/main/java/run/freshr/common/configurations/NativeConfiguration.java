@@ -0,0 +1,19 @@
+package run.freshr.common.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import run.freshr.common.aot.AuthRuntimeHints;
+
+/**
+ * Native image 설정
+ *
+ * @author FreshR
+ * @apiNote Spring AOT 처리 시 {@link AuthRuntimeHints} 를 등록<br>
+ *          JVM 실행에는 영향이 없다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Configuration
+@ImportRuntimeHints(AuthRuntimeHints.class)
+public class NativeConfiguration {
+
+}
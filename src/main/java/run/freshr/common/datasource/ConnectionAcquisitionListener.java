@@ -0,0 +1,124 @@
+package run.freshr.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Transaction connection 사용 기록
+ *
+ * @author FreshR
+ * @apiNote transaction 마다 물리 connection 을 받았는지 기록<br>
+ *          {@link #wrap(DataSource)} 로 감싼 DataSource 에서 connection 을 받으면 현재 transaction 에 표시하고,<br>
+ *          transaction 이 끝나면 auth.transaction.connection 을 기록<br>
+ *          - connection: acquired, none<br>
+ *          - read-only: true, false<br>
+ *          - outcome: commit, rollback<br>
+ *          REQUIRES_NEW 로 중첩된 transaction 은 각각 기록
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@RequiredArgsConstructor
+public class ConnectionAcquisitionListener implements TransactionExecutionListener {
+
+  private static final ThreadLocal<Deque<boolean[]>> TRANSACTIONS =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public void beforeBegin(TransactionExecution transaction) {
+    if (transaction.isNewTransaction()) {
+      TRANSACTIONS.get().push(new boolean[1]);
+    }
+  }
+
+  @Override
+  public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+    if (transaction.isNewTransaction() && beginFailure != null) {
+      TRANSACTIONS.get().poll();
+    }
+  }
+
+  @Override
+  public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+    complete(transaction, commitFailure == null ? "commit" : "rollback");
+  }
+
+  @Override
+  public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+    complete(transaction, "rollback");
+  }
+
+  /**
+   * DataSource 감싸기
+   *
+   * @param dataSource 물리 connection 을 제공하는 DataSource
+   * @return connection 을 받을 때 현재 transaction 에 표시하는 DataSource
+   * @apiNote LazyConnectionDataSourceProxy 의 대상으로 사용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public DataSource wrap(DataSource dataSource) {
+    return new DelegatingDataSource(dataSource) {
+      @Override
+      public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+
+        acquired();
+
+        return connection;
+      }
+
+      @Override
+      public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+
+        acquired();
+
+        return connection;
+      }
+    };
+  }
+
+  private static void acquired() {
+    boolean[] acquired = TRANSACTIONS.get().peek();
+
+    if (acquired != null) {
+      acquired[0] = true;
+    }
+  }
+
+  private void complete(TransactionExecution transaction, String outcome) {
+    if (!transaction.isNewTransaction()) {
+      return;
+    }
+
+    Deque<boolean[]> transactions = TRANSACTIONS.get();
+    boolean[] acquired = transactions.poll();
+
+    if (transactions.isEmpty()) {
+      TRANSACTIONS.remove();
+    }
+
+    if (acquired == null) {
+      return;
+    }
+
+    Counter.builder("auth.transaction.connection")
+        .description("Completed transactions by whether they borrowed a JDBC connection")
+        .tag("connection", acquired[0] ? "acquired" : "none")
+        .tag("read-only", String.valueOf(transaction.isReadOnly()))
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .increment();
+  }
+
+}
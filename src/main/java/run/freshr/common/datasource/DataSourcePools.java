@@ -0,0 +1,246 @@
+package run.freshr.common.datasource;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Primary, read replica connection pool
+ *
+ * @author FreshR
+ * @apiNote primary, replica connection pool 과 replica 상태를 관리<br>
+ *          freshr.datasource.replica.check-interval 간격으로 연결과 복제 지연을 확인하고<br>
+ *          연결에 실패하거나 복제 지연이 max-lag 를 넘은 replica 는 다음 확인까지 사용하지 않는다.<br>
+ *          복제 지연은 replica 자신의 수신, 반영 위치가 아니라 primary 의 현재 WAL 위치와 비교하므로<br>
+ *          복제 연결이 끊겨 WAL 을 받지 못하는 replica 도 primary 에 쓰기가 생기면 지연으로 판단한다.<br>
+ *          auth.datasource.replica.healthy, auth.datasource.replica.lag 로 상태를 기록
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Slf4j
+public class DataSourcePools implements AutoCloseable {
+
+  /**
+   * Primary WAL 위치 조회
+   *
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private static final String PRIMARY_LSN_QUERY = "SELECT pg_current_wal_lsn()::text";
+
+  /**
+   * Replica 복제 상태 조회
+   *
+   * @apiNote recovery 여부, primary WAL 위치에서 반영한 WAL 위치까지의 차이 (byte),<br>
+   *          마지막으로 반영한 transaction 이후의 시간 (ms)
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private static final String REPLICA_STATUS_QUERY = """
+      SELECT pg_is_in_recovery(),
+             pg_wal_lsn_diff(?::pg_lsn, pg_last_wal_replay_lsn()),
+             EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000""";
+
+  @Getter
+  private final HikariDataSource primary;
+  @Getter
+  private final List<Replica> replicas;
+  private final long maxLag;
+  private final AtomicInteger sequence = new AtomicInteger();
+
+  private final ScheduledExecutorService executorService =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-check");
+
+        thread.setDaemon(true);
+
+        return thread;
+      });
+
+  public DataSourcePools(HikariDataSource primary, List<HikariDataSource> replicas,
+      ReplicaProperties properties, MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.replicas = replicas.stream().map(Replica::new).toList();
+    this.maxLag = properties.getMaxLag();
+
+    this.replicas.forEach(replica -> {
+      Gauge.builder("auth.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+          .description("Whether the replica is used for read-only transactions")
+          .tag("replica", replica.getName())
+          .register(meterRegistry);
+      Gauge.builder("auth.datasource.replica.lag", replica, Replica::getLag)
+          .description("Replication lag of the replica in milliseconds")
+          .tag("replica", replica.getName())
+          .register(meterRegistry);
+    });
+
+    executorService.scheduleWithFixedDelay(this::check, 0, properties.getCheckInterval(),
+        MILLISECONDS);
+  }
+
+  /**
+   * Replica 선택
+   *
+   * @return 건강한 replica 중 다음 순서, 없으면 empty
+   * @apiNote round robin
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public Optional<Replica> nextReplica() {
+    List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+
+    if (healthy.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size())));
+  }
+
+  /**
+   * 상태 확인
+   *
+   * @apiNote primary 의 현재 WAL 위치를 조회하고 모든 replica 의 연결과 복제 지연을 확인<br>
+   *          primary 를 조회하지 못하면 replica 상태를 바꾸지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void check() {
+    // WAL 위치를 조회하기 전 시각: replica 가 이 위치까지 반영했다면 이 시각까지의 데이터를 모두 가진다.
+    long now = System.currentTimeMillis();
+    String lsn;
+
+    try (Connection connection = primary.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(PRIMARY_LSN_QUERY)) {
+      resultSet.next();
+
+      lsn = resultSet.getString(1);
+    } catch (SQLException e) {
+      log.warn("[Replica] primary WAL position unavailable: {}", e.getMessage());
+
+      return;
+    }
+
+    replicas.forEach(replica -> check(replica, lsn, now));
+  }
+
+  /**
+   * 복제 상태 반영
+   *
+   * @param replica   replica
+   * @param recovery  recovery (standby) 여부
+   * @param behind    primary WAL 위치에서 반영한 WAL 위치까지의 차이 (byte), 반영한 WAL 이 없으면 null
+   * @param replayAge 마지막으로 반영한 transaction 이후의 시간 (ms), 반영한 transaction 이 없으면 null
+   * @param now       primary WAL 위치를 조회하기 전 시각 (ms)
+   * @apiNote primary 이거나 primary WAL 위치까지 반영했으면 지연은 0<br>
+   *          아니면 마지막 반영 transaction 이후의 시간과 마지막으로 따라잡은 이후의 시간 중 작은 값<br>
+   *          - 쓰기가 없던 primary 에 새로 쓰기가 생긴 직후: 마지막으로 따라잡은 이후의 시간<br>
+   *          - 복제가 끊긴 replica: primary 에 쓰기가 생긴 이후로 계속 증가
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  void apply(Replica replica, boolean recovery, Long behind, Long replayAge, long now) {
+    long lag;
+
+    if (!recovery || (behind != null && behind <= 0)) {
+      replica.caughtUpAt = now;
+      lag = 0;
+    } else {
+      long sinceCaughtUp = replica.caughtUpAt < 0 ? Long.MAX_VALUE : now - replica.caughtUpAt;
+
+      lag = replayAge == null ? sinceCaughtUp : Math.min(replayAge, sinceCaughtUp);
+    }
+
+    boolean healthy = lag <= maxLag;
+
+    if (healthy != replica.healthy) {
+      log.info("[Replica] {} {} (lag {}ms)", replica.getName(), healthy ? "up" : "lagging", lag);
+    }
+
+    replica.lag = lag;
+    replica.healthy = healthy;
+  }
+
+  /**
+   * 사용 중지
+   *
+   * @param replica replica
+   * @param e       원인
+   * @apiNote connection 을 받지 못한 replica 를 다음 상태 확인까지 사용하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void markDown(Replica replica, SQLException e) {
+    if (replica.healthy) {
+      log.warn("[Replica] {} marked down: {}", replica.getName(), e.getMessage());
+    }
+
+    replica.healthy = false;
+  }
+
+  @Override
+  public void close() {
+    executorService.shutdownNow();
+    replicas.forEach(replica -> replica.getDataSource().close());
+    primary.close();
+  }
+
+  private void check(Replica replica, String lsn, long now) {
+    try (Connection connection = replica.getDataSource().getConnection();
+        PreparedStatement statement = connection.prepareStatement(REPLICA_STATUS_QUERY)) {
+      statement.setString(1, lsn);
+
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+
+        apply(replica, resultSet.getBoolean(1), getLong(resultSet, 2), getLong(resultSet, 3),
+            now);
+      }
+    } catch (SQLException e) {
+      markDown(replica, e);
+    }
+  }
+
+  private static Long getLong(ResultSet resultSet, int index) throws SQLException {
+    BigDecimal value = resultSet.getBigDecimal(index);
+
+    return value == null ? null : value.longValue();
+  }
+
+  /**
+   * Read replica
+   *
+   * @author FreshR
+   * @apiNote connection pool 과 마지막 확인 상태
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @Getter
+  public static class Replica {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+
+    private volatile boolean healthy;
+    private volatile long lag;
+    private volatile long caughtUpAt = -1;
+
+    private Replica(HikariDataSource dataSource) {
+      this.name = dataSource.getPoolName();
+      this.dataSource = dataSource;
+    }
+
+  }
+
+}
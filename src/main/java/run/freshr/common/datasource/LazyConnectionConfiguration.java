@@ -0,0 +1,73 @@
+package run.freshr.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * JDBC connection 지연 설정
+ *
+ * @author FreshR
+ * @apiNote DataSource Bean 을 LazyConnectionDataSourceProxy 로 감싸서<br>
+ *          transaction 을 시작해도 첫 번째 SQL 실행 전까지 Hikari connection 을 빌리지 않는다.<br>
+ *          Redis, CPU 작업만 하는 읽기 전용 transaction (RSA 공개키 발급 등) 은 connection 을 사용하지 않는다.<br>
+ *          이미 LazyConnectionDataSourceProxy 인 DataSource ({@link ReplicaRoutingConfiguration}) 는<br>
+ *          connection 사용 기록만 추가
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Configuration
+public class LazyConnectionConfiguration {
+
+  /**
+   * Connection 사용 기록 Bean 등록
+   *
+   * @param meterRegistry meter registry
+   * @return connection acquisition listener
+   * @apiNote transaction manager 에 TransactionExecutionListener 로 등록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @Bean
+  public ConnectionAcquisitionListener connectionAcquisitionListener(
+      MeterRegistry meterRegistry) {
+    return new ConnectionAcquisitionListener(meterRegistry);
+  }
+
+  /**
+   * DataSource 감싸기 Bean 등록
+   *
+   * @param listener connection acquisition listener
+   * @param enabled  사용 여부
+   * @return bean post processor
+   * @apiNote Boot DataSource metrics, health 는 DelegatingDataSource 를 풀어서 Hikari 를 찾는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @Bean
+  public static BeanPostProcessor lazyConnectionPostProcessor(
+      ObjectProvider<ConnectionAcquisitionListener> listener,
+      @Value("${freshr.datasource.lazy-connection.enabled:true}") boolean enabled) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof LazyConnectionDataSourceProxy proxy) {
+          proxy.setTargetDataSource(listener.getObject().wrap(proxy.getTargetDataSource()));
+
+          return proxy;
+        }
+
+        if (!enabled || !(bean instanceof DataSource dataSource)) {
+          return bean;
+        }
+
+        return new LazyConnectionDataSourceProxy(listener.getObject().wrap(dataSource));
+      }
+    };
+  }
+
+}
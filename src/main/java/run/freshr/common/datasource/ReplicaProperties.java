@@ -0,0 +1,91 @@
+package run.freshr.common.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica 설정
+ *
+ * @author FreshR
+ * @apiNote 연결 정보를 설정하지 않으면 spring.datasource 의 계정, Hikari 설정을 사용
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Data
+@ConfigurationProperties(prefix = "freshr.datasource.replica")
+public class ReplicaProperties {
+
+  /**
+   * 사용 여부
+   *
+   * @apiNote false 면 모든 transaction 을 primary 로 처리
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Boolean enabled = false;
+
+  /**
+   * Replica JDBC URL 목록
+   *
+   * @apiNote 건강한 replica 를 순서대로 돌아가면서 사용
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private List<String> urls = new ArrayList<>();
+
+  /**
+   * 계정
+   *
+   * @apiNote 설정하지 않으면 spring.datasource.username
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private String username;
+
+  /**
+   * 비밀번호
+   *
+   * @apiNote 설정하지 않으면 spring.datasource.password
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private String password;
+
+  /**
+   * 최대 복제 지연 시간 (ms)
+   *
+   * @apiNote 복제 지연이 이 값을 넘는 replica 는 사용하지 않는다.
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long maxLag = 1000L;
+
+  /**
+   * 상태 확인 간격 (ms)
+   *
+   * @apiNote 연결, 복제 지연 확인 간격
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long checkInterval = 5000L;
+
+  /**
+   * Replica 별 최대 connection 수
+   *
+   * @apiNote Replica 별 최대 connection 수
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer maximumPoolSize = 50;
+
+  /**
+   * Replica 별 최소 유휴 connection 수
+   *
+   * @apiNote Replica 별 최소 유휴 connection 수
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer minimumIdle = 10;
+
+  /**
+   * Connection 대기 시간 (ms)
+   *
+   * @apiNote 넘으면 replica 를 사용할 수 없는 것으로 판단하고 primary 로 처리하므로 primary 보다 짧게 설정
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long connectionTimeout = 1000L;
+
+}
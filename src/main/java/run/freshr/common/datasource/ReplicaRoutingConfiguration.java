@@ -0,0 +1,121 @@
+package run.freshr.common.datasource;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Read replica routing 설정
+ *
+ * @author FreshR
+ * @apiNote freshr.datasource.replica.enabled 가 true 일 때 Boot 기본 DataSource 대신<br>
+ *          LazyConnectionDataSourceProxy, {@link ReplicaRoutingDataSource} 를 등록<br>
+ *          - primary: spring.datasource, spring.datasource.hikari 설정<br>
+ *          - replica: primary Hikari 설정을 복사한 뒤 freshr.datasource.replica 설정으로 변경<br>
+ *          replica 는 기동 시 연결하지 못해도 실패하지 않고 상태 확인에서 제외된다.<br>
+ *          DataSource Bean 은 하나이므로 p6spy 등 DataSource 장식은 primary, replica 모두에 적용
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Configuration
+@ConditionalOnProperty(name = "freshr.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfiguration {
+
+  /**
+   * Connection pool Bean 등록
+   *
+   * @param dataSourceProperties spring.datasource 설정
+   * @param properties           replica 설정
+   * @param environment          environment
+   * @param meterRegistry        meter registry
+   * @return data source pools
+   * @apiNote Boot 가 DataSource Bean 을 만들지 않으므로 Hikari metrics 도 직접 등록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @Bean
+  public DataSourcePools dataSourcePools(DataSourceProperties dataSourceProperties,
+      ReplicaProperties properties, Environment environment, MeterRegistry meterRegistry) {
+    HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+    List<HikariDataSource> replicas = IntStream.range(0, properties.getUrls().size())
+        .mapToObj(index -> replica(primary, properties, index))
+        .toList();
+
+    return new DataSourcePools(primary, replicas, properties, meterRegistry);
+  }
+
+  /**
+   * DataSource Bean 등록
+   *
+   * @param pools         connection pool
+   * @param meterRegistry meter registry
+   * @return data source
+   * @apiNote 읽기 전용 여부는 transaction 시작 후에 확정되므로 첫 번째 SQL 실행까지 connection 을 미룬다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(DataSourcePools pools, MeterRegistry meterRegistry) {
+    ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(pools,
+        meterRegistry);
+
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+
+    dataSource.setTargetDataSource(routingDataSource);
+    dataSource.setDefaultAutoCommit(pools.getPrimary().isAutoCommit());
+    dataSource.afterPropertiesSet();
+
+    return dataSource;
+  }
+
+  private static HikariDataSource replica(HikariDataSource primary, ReplicaProperties properties,
+      int index) {
+    HikariConfig config = new HikariConfig();
+
+    primary.copyStateTo(config);
+
+    config.setPoolName("replica-" + index);
+    config.setJdbcUrl(properties.getUrls().get(index));
+    config.setReadOnly(true);
+    config.setMaximumPoolSize(properties.getMaximumPoolSize());
+    config.setMinimumIdle(properties.getMinimumIdle());
+    config.setConnectionTimeout(properties.getConnectionTimeout());
+    config.setValidationTimeout(Math.min(config.getValidationTimeout(),
+        Math.max(250, properties.getConnectionTimeout() / 2)));
+    config.setInitializationFailTimeout(-1);
+
+    if (hasText(properties.getUsername())) {
+      config.setUsername(properties.getUsername());
+    }
+
+    if (hasText(properties.getPassword())) {
+      config.setPassword(properties.getPassword());
+    }
+
+    return new HikariDataSource(config);
+  }
+
+}
@@ -0,0 +1,99 @@
+package run.freshr.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.freshr.common.datasource.DataSourcePools.Replica;
+
+/**
+ * Read replica routing DataSource
+ *
+ * @author FreshR
+ * @apiNote 읽기 전용 transaction 은 건강한 replica 로, 나머지는 primary 로 연결<br>
+ *          - 건강한 replica 가 없으면 primary<br>
+ *          - replica connection 을 받지 못하면 replica 를 사용 중지하고 primary<br>
+ *          transaction 속성은 transaction 시작 이후에 등록되므로<br>
+ *          {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서<br>
+ *          첫 번째 SQL 실행 시점에 connection 을 받아야 한다.<br>
+ *          auth.datasource.route (target: primary, replica, fallback) 로 연결 대상을 기록<br>
+ *          연결 대상은 getConnection 에서 직접 고르므로 lookup key 기반 AbstractRoutingDataSource 를 쓰지 않는다.
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+  private final DataSource primary;
+  private final DataSourcePools pools;
+
+  private final Counter primaryCounter;
+  private final Counter replicaCounter;
+  private final Counter fallbackCounter;
+
+  public ReplicaRoutingDataSource(DataSourcePools pools, MeterRegistry meterRegistry) {
+    this.primary = pools.getPrimary();
+    this.pools = pools;
+    this.primaryCounter = counter(meterRegistry, "primary");
+    this.replicaCounter = counter(meterRegistry, "replica");
+    this.fallbackCounter = counter(meterRegistry, "fallback");
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Optional<Replica> replica = route();
+
+    if (replica.isEmpty()) {
+      primaryCounter.increment();
+
+      return primary.getConnection();
+    }
+
+    try {
+      Connection connection = replica.get().getDataSource().getConnection();
+
+      replicaCounter.increment();
+
+      return connection;
+    } catch (SQLException e) {
+      pools.markDown(replica.get(), e);
+      fallbackCounter.increment();
+
+      return primary.getConnection();
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    primaryCounter.increment();
+
+    return primary.getConnection(username, password);
+  }
+
+  /**
+   * 연결 대상 조회
+   *
+   * @return 읽기 전용 transaction 이면 건강한 replica, 아니면 empty
+   * @apiNote transaction 밖의 조회는 primary
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Optional<Replica> route() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return Optional.empty();
+    }
+
+    return pools.nextReplica();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("auth.datasource.route")
+        .description("Connections handed out by the routing DataSource")
+        .tag("target", target)
+        .register(meterRegistry);
+  }
+
+}
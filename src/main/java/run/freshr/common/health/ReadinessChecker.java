@@ -0,0 +1,153 @@
+package run.freshr.common.health;
+
+import static org.springframework.boot.availability.ReadinessState.ACCEPTING_TRAFFIC;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import run.freshr.domain.common.dto.response.ReadinessResponse;
+
+/**
+ * 의존 서비스 상태 확인
+ *
+ * @author FreshR
+ * @apiNote Postgres, Redis 상태를 background 에서 주기적으로 확인하고 결과를 보관<br>
+ *          Readiness 요청은 보관된 결과만 반환하므로 요청마다 의존 서비스를 호출하지 않는다.<br>
+ *          warm-up 을 포함한 기동이 끝나기 전 (ACCEPTING_TRAFFIC 이전) 에는 준비되지 않은 상태
+ * @since 2024. 4. 2. 오전 11:27:50
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadinessChecker {
+
+  /**
+   * Postgres 연결 확인 제한 시간 (초)
+   *
+   * @apiNote Postgres 연결 확인 제한 시간 (초)
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private static final int VALID_TIMEOUT = 2;
+
+  private final DataSource dataSource;
+  private final RedisConnectionFactory redisConnectionFactory;
+  private final ApplicationAvailability applicationAvailability;
+
+  private volatile ReadinessResponse readiness = ReadinessResponse.builder()
+      .ready(false)
+      .started(false)
+      .postgres(false)
+      .redis(false)
+      .build();
+
+  /**
+   * 최초 상태 확인
+   *
+   * @apiNote 첫 주기가 오기 전에도 Readiness 요청에 실제 상태를 반환하도록 기동 시 한 번 확인
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  @PostConstruct
+  public void init() {
+    check();
+  }
+
+  /**
+   * 의존 서비스 상태 확인
+   *
+   * @apiNote freshr.readiness.interval (ms) 주기로 상태를 확인하고 결과를 교체
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  @Scheduled(fixedDelayString = "${freshr.readiness.interval:5000}")
+  public void check() {
+    boolean started = applicationAvailability.getReadinessState() == ACCEPTING_TRAFFIC;
+    boolean postgres = checkPostgres();
+    boolean redis = checkRedis();
+
+    readiness = ReadinessResponse.builder()
+        .ready(started && postgres && redis)
+        .started(started)
+        .postgres(postgres)
+        .redis(redis)
+        .checkAt(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * 기동 상태 변경 시 확인
+   *
+   * @param event readiness 상태 변경 event
+   * @apiNote warm-up 이 끝나고 ACCEPTING_TRAFFIC 이 되면 다음 주기를 기다리지 않고 바로 반영
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  @EventListener
+  public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+    check();
+  }
+
+  /**
+   * 마지막 확인 결과 조회
+   *
+   * @return readiness
+   * @apiNote 마지막 확인 결과 조회
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  public ReadinessResponse getReadiness() {
+    return readiness;
+  }
+
+  private boolean checkPostgres() {
+    try (Connection connection = dataSource.getConnection()) {
+      return target(connection).isValid(VALID_TIMEOUT);
+    } catch (Exception e) {
+      log.warn("[Readiness] postgres check failed: {}", e.getMessage());
+
+      return false;
+    }
+  }
+
+  /**
+   * 물리 connection 조회
+   *
+   * @param connection connection
+   * @return 물리 connection
+   * @apiNote DataSource 가 connection 을 첫 번째 SQL 실행까지 미루므로 (LazyConnectionDataSourceProxy)<br>
+   *          물리 connection 을 받아서 확인해야 실제 연결 상태를 확인할 수 있다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private static Connection target(Connection connection) throws SQLException {
+    if (connection.isWrapperFor(ConnectionProxy.class)) {
+      return connection.unwrap(ConnectionProxy.class).getTargetConnection();
+    }
+
+    return connection;
+  }
+
+  private boolean checkRedis() {
+    try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+      return connection.ping() != null;
+    } catch (Exception e) {
+      log.warn("[Readiness] redis check failed: {}", e.getMessage());
+
+      return false;
+    }
+  }
+
+}
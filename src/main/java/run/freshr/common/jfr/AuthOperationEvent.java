@@ -0,0 +1,34 @@
+package run.freshr.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 인증 기능 JFR event
+ *
+ * @author FreshR
+ * @apiNote 로그인, Access 토큰 갱신, 비밀번호 변경 전체 처리를 기록<br>
+ *          처리 시간은 event 의 duration 으로 기록
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@StackTrace(false)
+@Name("run.freshr.auth.Operation")
+@Label("Auth Operation")
+@Category({"FreshR", "Auth"})
+@Description("인증 기능 처리")
+public class AuthOperationEvent extends Event {
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("Outcome")
+  public String outcome;
+
+  @Label("Status")
+  public String status;
+
+}
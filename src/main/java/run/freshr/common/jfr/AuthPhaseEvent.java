@@ -0,0 +1,34 @@
+package run.freshr.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 인증 기능 단계 JFR event
+ *
+ * @author FreshR
+ * @apiNote RSA 키 생성, 복호화, 비밀번호 검증과 암호화, 토큰 발급 등 단계별 처리를 기록<br>
+ *          처리 시간은 event 의 duration 으로 기록
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@StackTrace(false)
+@Name("run.freshr.auth.Phase")
+@Label("Auth Phase")
+@Category({"FreshR", "Auth"})
+@Description("인증 기능 단계별 처리")
+public class AuthPhaseEvent extends Event {
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("Phase")
+  public String phase;
+
+  @Label("Outcome")
+  public String outcome;
+
+}
@@ -0,0 +1,200 @@
+package run.freshr.common.jfr;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+
+import jakarta.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * JFR 기록 Actuator endpoint
+ *
+ * @author FreshR
+ * @apiNote POST /actuator/jfr: 제한 시간이 있는 기록 시작 (duration 초, settings default | profile)<br>
+ *          GET /actuator/jfr: 기록 상태 조회<br>
+ *          GET /actuator/jfr/dump: 종료된 기록 파일 다운로드, 실행 중이면 현재까지의 snapshot 다운로드<br>
+ *          한 번에 하나의 기록만 실행<br>
+ *          - 새 기록을 시작하거나 종료할 때 이전 기록 파일을 삭제<br>
+ *          - snapshot 파일은 응답 전송이 끝나면 삭제하고, 동시에 max-snapshots 개까지만 생성
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+  private final long maxDuration;
+  private final int maxSnapshots;
+  private final AtomicInteger snapshots = new AtomicInteger();
+
+  private Recording recording;
+  private Path destination;
+
+  public JfrRecordingEndpoint(@Value("${freshr.jfr.max-duration:300}") long maxDuration,
+      @Value("${freshr.jfr.max-snapshots:2}") int maxSnapshots) {
+    this.maxDuration = maxDuration;
+    this.maxSnapshots = maxSnapshots;
+  }
+
+  @ReadOperation
+  public synchronized Map<String, Object> getRecording() {
+    Map<String, Object> result = new LinkedHashMap<>();
+
+    if (recording == null) {
+      result.put("state", "NONE");
+
+      return result;
+    }
+
+    result.put("id", recording.getId());
+    result.put("state", recording.getState());
+    result.put("startTime", recording.getStartTime());
+    result.put("duration", recording.getDuration());
+    result.put("destination", destination.toString());
+
+    return result;
+  }
+
+  @WriteOperation
+  public synchronized Map<String, Object> startRecording(@Nullable Long duration,
+      @Nullable String settings) throws Exception {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      throw new IllegalStateException("JFR recording is already running");
+    }
+
+    close();
+
+    long seconds = Math.min(duration == null ? 60 : duration, maxDuration);
+
+    destination = Files.createTempFile("service-auth-", ".jfr");
+    recording = new Recording(Configuration.getConfiguration(
+        settings == null ? "default" : settings));
+    recording.setName("service-auth");
+    recording.setToDisk(true);
+    recording.setDuration(Duration.ofSeconds(seconds));
+    recording.setDestination(destination);
+    recording.enable(AuthOperationEvent.class);
+    recording.enable(AuthPhaseEvent.class);
+    recording.start();
+
+    return getRecording();
+  }
+
+  @ReadOperation(produces = "application/octet-stream")
+  public synchronized Resource dump(@Selector String name) throws IOException {
+    if (!"dump".equals(name) || recording == null) {
+      return null;
+    }
+
+    // 실행 중이면 현재까지의 기록을 별도 파일로 저장
+    if (recording.getState() == RecordingState.RUNNING) {
+      return snapshot();
+    }
+
+    return Files.exists(destination) ? new FileSystemResource(destination) : null;
+  }
+
+  /**
+   * 기록 종료
+   *
+   * @apiNote 기록을 닫고 기록 파일을 삭제
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @PreDestroy
+  public synchronized void close() throws IOException {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+
+    if (destination != null) {
+      Files.deleteIfExists(destination);
+      destination = null;
+    }
+  }
+
+  /**
+   * 실행 중인 기록 snapshot
+   *
+   * @return snapshot 파일 stream, 응답 전송이 끝나 stream 을 닫으면 파일 삭제
+   * @apiNote 다운로드 중인 snapshot 이 max-snapshots 개면 거절
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Resource snapshot() throws IOException {
+    if (snapshots.incrementAndGet() > maxSnapshots) {
+      snapshots.decrementAndGet();
+
+      throw new IllegalStateException("Too many JFR snapshots are being downloaded");
+    }
+
+    Path snapshot = null;
+
+    try {
+      snapshot = Files.createTempFile("service-auth-snapshot-", ".jfr");
+
+      recording.dump(snapshot);
+
+      return new InputStreamResource(
+          new SnapshotInputStream(Files.newInputStream(snapshot, DELETE_ON_CLOSE)));
+    } catch (IOException | RuntimeException e) {
+      snapshots.decrementAndGet();
+
+      if (snapshot != null) {
+        Files.deleteIfExists(snapshot);
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Snapshot 파일 stream
+   *
+   * @author FreshR
+   * @apiNote 닫으면 다운로드 중인 snapshot 수를 줄인다.
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private class SnapshotInputStream extends FilterInputStream {
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private SnapshotInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed.compareAndSet(false, true)) {
+        try {
+          super.close();
+        } finally {
+          snapshots.decrementAndGet();
+        }
+      }
+    }
+
+  }
+
+}
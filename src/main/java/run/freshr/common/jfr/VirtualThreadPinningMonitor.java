@@ -0,0 +1,188 @@
+package run.freshr.common.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Virtual thread 고정 (pinning) 감지
+ *
+ * @author FreshR
+ * @apiNote spring.threads.virtual.enabled 가 true 일 때만 생성<br>
+ *          JFR jdk.VirtualThreadPinned 이벤트를 stream 으로 받아서 stack trace 로 구간을 분류<br>
+ *          - redis: Lettuce, Spring Data Redis<br>
+ *          - jdbc: Postgres driver, HikariCP, p6spy<br>
+ *          - crypto: JCA, Spring Security crypto<br>
+ *          구간별로 auth.virtual-thread.pinned 를 기록하고,<br>
+ *          애플리케이션에서 가장 가까운 frame 을 경고 로그로 남긴다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+  private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+  private static final String PATH_REDIS = "redis";
+  private static final String PATH_JDBC = "jdbc";
+  private static final String PATH_CRYPTO = "crypto";
+  private static final String PATH_OTHER = "other";
+
+  private static final List<String> REDIS_PACKAGES = List.of(
+      "io.lettuce.", "org.springframework.data.redis.");
+  private static final List<String> JDBC_PACKAGES = List.of(
+      "org.postgresql.", "com.zaxxer.hikari.", "com.p6spy.", "java.sql.");
+  private static final List<String> CRYPTO_PACKAGES = List.of(
+      "javax.crypto.", "java.security.", "sun.security.",
+      "org.springframework.security.crypto.");
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+      @Value("${freshr.virtual-thread.pinned-threshold:20}") long threshold) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = Duration.ofMillis(threshold);
+  }
+
+  /**
+   * 감지 시작
+   *
+   * @apiNote jdk.VirtualThreadPinned 이벤트는 Java 21 부터 지원하므로 이전 버전에서는 시작하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (Runtime.version().feature() < 21) {
+      log.warn("[VirtualThread] Java {} does not support virtual threads",
+          Runtime.version().feature());
+
+      return;
+    }
+
+    stream = new RecordingStream();
+
+    stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+    stream.onEvent(EVENT_NAME, this::record);
+    stream.startAsync();
+
+    log.info("[VirtualThread] pinning monitor started (threshold {}ms)", threshold.toMillis());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  /**
+   * 고정 이벤트 기록
+   *
+   * @param event jdk.VirtualThreadPinned 이벤트
+   * @apiNote 구간별 횟수와 고정 시간을 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void record(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+    String path = classify(frames);
+
+    Counter.builder("auth.virtual-thread.pinned")
+        .description("Virtual thread pinned to its carrier thread")
+        .tag("path", path)
+        .register(meterRegistry)
+        .increment();
+    Timer.builder("auth.virtual-thread.pinned.time")
+        .description("Time a virtual thread stayed pinned to its carrier thread")
+        .tag("path", path)
+        .register(meterRegistry)
+        .record(event.getDuration());
+
+    log.warn("[VirtualThread] pinned {}ms on {} at {}",
+        event.getDuration().toMillis(), path, applicationFrame(frames));
+  }
+
+  /**
+   * 구간 분류
+   *
+   * @param frames stack frame 목록
+   * @return 구간
+   * @apiNote 가장 안쪽 frame 부터 확인해서 처음 일치하는 구간
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private static String classify(List<RecordedFrame> frames) {
+    for (RecordedFrame frame : frames) {
+      String type = typeName(frame);
+
+      if (startsWith(type, REDIS_PACKAGES)) {
+        return PATH_REDIS;
+      }
+
+      if (startsWith(type, JDBC_PACKAGES)) {
+        return PATH_JDBC;
+      }
+
+      if (startsWith(type, CRYPTO_PACKAGES)) {
+        return PATH_CRYPTO;
+      }
+    }
+
+    return PATH_OTHER;
+  }
+
+  /**
+   * 애플리케이션 frame 조회
+   *
+   * @param frames stack frame 목록
+   * @return 가장 안쪽의 run.freshr frame, 없으면 가장 안쪽 frame
+   * @apiNote 고정을 일으킨 호출 위치 확인용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private static String applicationFrame(List<RecordedFrame> frames) {
+    if (frames.isEmpty()) {
+      return "unknown";
+    }
+
+    RecordedFrame found = frames.stream()
+        .filter(frame -> typeName(frame).startsWith("run.freshr."))
+        .findFirst()
+        .orElse(frames.get(0));
+
+    if (found.getMethod() == null) {
+      return "unknown";
+    }
+
+    return typeName(found) + "." + found.getMethod().getName()
+        + ":" + found.getLineNumber();
+  }
+
+  private static String typeName(RecordedFrame frame) {
+    return frame.getMethod() == null ? "" : frame.getMethod().getType().getName();
+  }
+
+  private static boolean startsWith(String type, List<String> packages) {
+    return packages.stream().anyMatch(type::startsWith);
+  }
+
+}
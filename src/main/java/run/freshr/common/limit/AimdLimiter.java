@@ -0,0 +1,100 @@
+package run.freshr.common.limit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 동시 처리 제한
+ *
+ * @author FreshR
+ * @apiNote 응답 시간이 목표 이내이면 동시 처리 수를 1 씩 늘리고 (Additive Increase),<br>
+ *          목표를 넘거나 오류가 발생하면 감소 비율만큼 줄인다 (Multiplicative Decrease).<br>
+ *          처리 중인 요청이 동시 처리 수에 도달하면 즉시 거절<br>
+ *          virtual thread 가 carrier thread 에 고정되지 않도록 synchronized 대신 lock 사용
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class AimdLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetNanos;
+  private final double backoffRatio;
+  private final long retryAfter;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile double limit;
+
+  public AimdLimiter(ConcurrencyLimitProperties.Group group) {
+    this.minLimit = group.getMinLimit();
+    this.maxLimit = group.getMaxLimit();
+    this.targetNanos = MILLISECONDS.toNanos(group.getTargetLatency());
+    this.backoffRatio = group.getBackoffRatio();
+    this.retryAfter = group.getRetryAfter();
+    this.limit = Math.max(minLimit, Math.min(maxLimit, group.getInitialLimit()));
+  }
+
+  /**
+   * 처리 허가 요청
+   *
+   * @return 허가 여부
+   * @apiNote 허가를 받았다면 처리 후 반드시 {@link #release(long, boolean)} 호출
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+
+      if (current >= (int) limit) {
+        return false;
+      }
+
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 처리 완료
+   *
+   * @param latencyNanos 처리 시간
+   * @param failed       서버 오류 여부
+   * @apiNote 처리 시간으로 동시 처리 수를 조정
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public void release(long latencyNanos, boolean failed) {
+    int current = inFlight.getAndDecrement();
+
+    lock.lock();
+
+    try {
+      if (failed || latencyNanos > targetNanos) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+      } else if (current * 2 >= limit) {
+        // 제한에 가깝게 사용 중일 때만 늘려서 여유가 있을 때 제한이 무한히 커지지 않도록 한다.
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public long getRetryAfter() {
+    return retryAfter;
+  }
+
+}
@@ -0,0 +1,32 @@
+package run.freshr.common.limit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * 동시 처리 제한
+ *
+ * @author FreshR
+ * @apiNote 같은 그룹의 요청은 하나의 {@link AimdLimiter} 를 공유<br>
+ *          그룹별 설정은 freshr.limit.groups.{그룹 이름} 으로 설정
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface ConcurrencyLimit {
+
+  /**
+   * 그룹 이름
+   *
+   * @return group
+   * @apiNote 그룹 이름
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  String value();
+
+}
@@ -0,0 +1,32 @@
+package run.freshr.common.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 동시 처리 제한 설정
+ *
+ * @author FreshR
+ * @apiNote freshr.limit.enabled 가 true 일 때 {@link ConcurrencyLimitInterceptor} 등록
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+  private final ConcurrencyLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    if (properties.getEnabled()) {
+      registry.addInterceptor(new ConcurrencyLimitInterceptor(properties, meterRegistry));
+    }
+  }
+
+}
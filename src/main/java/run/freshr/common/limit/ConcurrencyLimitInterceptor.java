@@ -0,0 +1,110 @@
+package run.freshr.common.limit;
+
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 동시 처리 제한 interceptor
+ *
+ * @author FreshR
+ * @apiNote {@link ConcurrencyLimit} 가 설정된 요청을 그룹별 {@link AimdLimiter} 로 제한<br>
+ *          제한을 넘은 요청은 429 와 Retry-After header 로 즉시 거절<br>
+ *          비동기 요청은 처음 dispatch 에서 허가를 받고, 결과를 처리하는 async dispatch 가 끝날 때 반환
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+  private static final String ATTRIBUTE_LIMITER = ConcurrencyLimitInterceptor.class.getName()
+      + ".limiter";
+  private static final String ATTRIBUTE_START = ConcurrencyLimitInterceptor.class.getName()
+      + ".start";
+
+  private final ConcurrencyLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AimdLimiter> limiters = new ConcurrentHashMap<>();
+
+  public ConcurrencyLimitInterceptor(ConcurrencyLimitProperties properties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (request.getDispatcherType() == DispatcherType.ASYNC
+        || !(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+
+    ConcurrencyLimit concurrencyLimit = handlerMethod.getMethodAnnotation(ConcurrencyLimit.class);
+
+    if (concurrencyLimit == null) {
+      return true;
+    }
+
+    String group = concurrencyLimit.value();
+    AimdLimiter limiter = limiters.computeIfAbsent(group, this::createLimiter);
+
+    if (!limiter.tryAcquire()) {
+      Counter.builder("auth.limit.rejected")
+          .description("동시 처리 제한으로 거절된 요청 수")
+          .tag("group", group)
+          .register(meterRegistry)
+          .increment();
+
+      response.setStatus(TOO_MANY_REQUESTS.value());
+      response.setHeader(RETRY_AFTER, String.valueOf(limiter.getRetryAfter()));
+
+      return false;
+    }
+
+    request.setAttribute(ATTRIBUTE_LIMITER, limiter);
+    request.setAttribute(ATTRIBUTE_START, System.nanoTime());
+
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    Object limiter = request.getAttribute(ATTRIBUTE_LIMITER);
+
+    if (limiter == null) {
+      return;
+    }
+
+    long start = (Long) request.getAttribute(ATTRIBUTE_START);
+
+    ((AimdLimiter) limiter).release(System.nanoTime() - start,
+        ex != null || response.getStatus() >= 500);
+  }
+
+  private AimdLimiter createLimiter(String group) {
+    AimdLimiter limiter = new AimdLimiter(properties.getGroups()
+        .getOrDefault(group, new ConcurrencyLimitProperties.Group()));
+
+    Gauge.builder("auth.limit.limit", limiter, AimdLimiter::getLimit)
+        .description("현재 동시 처리 제한 수")
+        .tag("group", group)
+        .register(meterRegistry);
+    Gauge.builder("auth.limit.in-flight", limiter, AimdLimiter::getInFlight)
+        .description("처리 중인 요청 수")
+        .tag("group", group)
+        .register(meterRegistry);
+
+    return limiter;
+  }
+
+}
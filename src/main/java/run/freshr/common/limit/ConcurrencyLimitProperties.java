@@ -0,0 +1,88 @@
+package run.freshr.common.limit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동시 처리 제한 설정
+ *
+ * @author FreshR
+ * @apiNote 동시 처리 제한 설정
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Data
+@ConfigurationProperties(prefix = "freshr.limit")
+public class ConcurrencyLimitProperties {
+
+  /**
+   * 사용 여부
+   *
+   * @apiNote 사용 여부
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Boolean enabled = true;
+
+  /**
+   * 그룹별 설정
+   *
+   * @apiNote 설정하지 않은 그룹은 기본 값을 사용
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Map<String, Group> groups = new LinkedHashMap<>();
+
+  @Data
+  public static class Group {
+
+    /**
+     * 최초 동시 처리 수
+     *
+     * @apiNote 최초 동시 처리 수
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Integer initialLimit = 20;
+
+    /**
+     * 최소 동시 처리 수
+     *
+     * @apiNote 최소 동시 처리 수
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Integer minLimit = 4;
+
+    /**
+     * 최대 동시 처리 수
+     *
+     * @apiNote 최대 동시 처리 수
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Integer maxLimit = 200;
+
+    /**
+     * 목표 응답 시간 (ms)
+     *
+     * @apiNote 응답 시간이 목표를 넘으면 동시 처리 수를 줄인다.
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Long targetLatency = 500L;
+
+    /**
+     * 감소 비율
+     *
+     * @apiNote 응답 시간이 목표를 넘었을 때 현재 동시 처리 수에 곱할 값
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Double backoffRatio = 0.9;
+
+    /**
+     * 재시도 대기 시간 (초)
+     *
+     * @apiNote 거절 응답의 Retry-After header 값
+     * @since 2024. 4. 2. 오후 1:26:55
+     */
+    private Long retryAfter = 1L;
+
+  }
+
+}
@@ -0,0 +1,164 @@
+package run.freshr.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.appender.AsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 비동기 로그 설정
+ *
+ * @author FreshR
+ * @apiNote root logger 의 동기 appender (configure-logstash 의 logstash encoder appender 등) 를<br>
+ *          {@link DroppingAsyncAppender} 로 감싸서 요청 thread 는 ring buffer 에 넣기만 한다.<br>
+ *          p6spy SQL 로그처럼 양이 많은 INFO 이하 로그는 ring buffer 가 밀리면 먼저 버리고<br>
+ *          auth.logging.dropped (level, reason: threshold, full) 로 기록<br>
+ *          encoder 는 단일 consumer thread 에서만 호출되므로 encoder 의 재사용 buffer 가 하나로 유지된다.<br>
+ *          logback context 가 종료될 때 남은 이벤트를 모두 기록한 뒤 감싼 appender 를 종료
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AsyncLoggingProperties.class)
+@ConditionalOnProperty(name = "freshr.logstash.async.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class AsyncLoggingConfiguration {
+
+  private static final String APPENDER_NAME = "AUTH-ASYNC";
+
+  private final AsyncLoggingProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Appender 감싸기
+   *
+   * @apiNote configure-logstash 가 appender 를 등록한 뒤에 처리하도록 애플리케이션 시작 후 실행<br>
+   *          이미 비동기 appender 이거나 감싼 appender 가 있으면 다시 감싸지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @EventListener(ApplicationStartedEvent.class)
+  public void install() {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return;
+    }
+
+    Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+
+    if (root.getAppender(APPENDER_NAME) != null) {
+      return;
+    }
+
+    List<Appender<ILoggingEvent>> targets = targets(root);
+
+    if (targets.isEmpty()) {
+      return;
+    }
+
+    DroppingAsyncAppender async = appender(context);
+
+    targets.forEach(async::addAppender);
+    async.start();
+
+    root.addAppender(async);
+    targets.forEach(root::detachAppender);
+
+    Gauge.builder("auth.logging.ring-buffer.remaining", async,
+            DroppingAsyncAppender::remainingCapacity)
+        .description("Free slots in the asynchronous logging ring buffer")
+        .register(meterRegistry);
+
+    log.info("[Logging] asynchronous appender started for {} (ring buffer {})",
+        targets.stream().map(Appender::getName).toList(), properties.getRingBufferSize());
+  }
+
+  /**
+   * 감쌀 appender 조회
+   *
+   * @param root root logger
+   * @return 동기 appender 목록
+   * @apiNote appenders 설정이 있으면 이름이 일치하는 appender 만
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private List<Appender<ILoggingEvent>> targets(Logger root) {
+    List<Appender<ILoggingEvent>> targets = new ArrayList<>();
+    Iterator<Appender<ILoggingEvent>> iterator = root.iteratorForAppenders();
+
+    while (iterator.hasNext()) {
+      Appender<ILoggingEvent> appender = iterator.next();
+
+      if (appender instanceof AsyncDisruptorAppender || appender instanceof AsyncAppenderBase) {
+        continue;
+      }
+
+      if (properties.getAppenders().isEmpty()
+          || properties.getAppenders().contains(appender.getName())) {
+        targets.add(appender);
+      }
+    }
+
+    return targets;
+  }
+
+  /**
+   * 비동기 appender 생성
+   *
+   * @param context logger context
+   * @return 시작 전 appender
+   * @apiNote ring buffer 가 가득 차서 버린 이벤트는 listener 로, 기준 이하라서 버린 이벤트는 callback 으로 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private DroppingAsyncAppender appender(LoggerContext context) {
+    DroppingAsyncAppender async = new DroppingAsyncAppender();
+
+    async.setContext(context);
+    async.setName(APPENDER_NAME);
+    async.setThreadNamePrefix("auth-logging-");
+    async.setRingBufferSize(properties.getRingBufferSize());
+    async.setAppendTimeout(ch.qos.logback.core.util.Duration.buildByMilliseconds(
+        properties.getAppendTimeout()));
+    async.setDiscardingThreshold(properties.getDiscardingThreshold());
+    async.setDropLevel(Level.toLevel(properties.getDropLevel(), Level.INFO));
+    async.setDiscarded(event -> dropped(event, "threshold"));
+    async.addListener(new AppenderListener<>() {
+      @Override
+      public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event,
+          Throwable reason) {
+        dropped(event, "full");
+      }
+    });
+
+    return async;
+  }
+
+  private void dropped(ILoggingEvent event, String reason) {
+    Counter.builder("auth.logging.dropped")
+        .description("Log events dropped by the asynchronous appender")
+        .tag("level", event.getLevel().toString())
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+}
@@ -0,0 +1,68 @@
+package run.freshr.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 로그 설정
+ *
+ * @author FreshR
+ * @apiNote 비동기 로그 설정
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Data
+@ConfigurationProperties(prefix = "freshr.logstash.async")
+public class AsyncLoggingProperties {
+
+  /**
+   * 사용 여부
+   *
+   * @apiNote false 면 appender 를 감싸지 않고 요청 thread 에서 바로 기록
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Boolean enabled = true;
+
+  /**
+   * Ring buffer 크기
+   *
+   * @apiNote 2 의 제곱수. 시작할 때 slot 을 모두 미리 할당
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer ringBufferSize = 8192;
+
+  /**
+   * 버림 기준 남은 slot 수
+   *
+   * @apiNote 남은 slot 이 이 수 이하면 drop-level 이하 로그를 기다리지 않고 버린다.<br>
+   *          0 이면 ring buffer 가 가득 찼을 때만 버린다.
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Integer discardingThreshold = 1638;
+
+  /**
+   * 버림 대상 최대 level
+   *
+   * @apiNote 이 level 이하 (DEBUG, INFO 등) 로그만 먼저 버린다.
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private String dropLevel = "INFO";
+
+  /**
+   * 버림 대상이 아닌 로그의 최대 대기 시간 (ms)
+   *
+   * @apiNote WARN, ERROR 는 ring buffer 가 가득 차면 이 시간만큼 기다린 뒤 버린다.
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long appendTimeout = 50L;
+
+  /**
+   * 감쌀 appender 이름 목록
+   *
+   * @apiNote 비어 있으면 root logger 의 모든 동기 appender
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private List<String> appenders = new ArrayList<>();
+
+}
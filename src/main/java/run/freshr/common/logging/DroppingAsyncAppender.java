@@ -0,0 +1,79 @@
+package run.freshr.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.function.Consumer;
+import lombok.Setter;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+
+/**
+ * Level 별 버림 정책이 있는 ring buffer appender
+ *
+ * @author FreshR
+ * @apiNote {@link LoggingEventAsyncDisruptorAppender} 의 미리 할당된 ring buffer 에 이벤트를 넣고<br>
+ *          단일 thread 가 감싼 appender (logstash encoder 등) 로 기록한다.<br>
+ *          남은 slot 이 discardingThreshold 이하면 dropLevel 이하 로그는 기다리지 않고 버리고,<br>
+ *          그보다 높은 level 은 appendTimeout 만큼 기다린 뒤 버린다.
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Setter
+public class DroppingAsyncAppender extends LoggingEventAsyncDisruptorAppender {
+
+  /**
+   * 버림 기준 남은 slot 수
+   */
+  private int discardingThreshold;
+
+  /**
+   * 버림 대상 최대 level
+   */
+  private Level dropLevel = Level.INFO;
+
+  /**
+   * 버린 이벤트 처리
+   */
+  private Consumer<ILoggingEvent> discarded = event -> {
+  };
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    if (isDiscardable(event)) {
+      discarded.accept(event);
+
+      return;
+    }
+
+    super.append(event);
+  }
+
+  /**
+   * Ring buffer 남은 slot 수
+   *
+   * @return 남은 slot 수, 시작 전이면 0
+   * @apiNote 사용량 gauge 용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public long remainingCapacity() {
+    if (!isStarted() || getDisruptor() == null) {
+      return 0;
+    }
+
+    return getDisruptor().getRingBuffer().remainingCapacity();
+  }
+
+  /**
+   * 버림 여부
+   *
+   * @param event 로그 이벤트
+   * @return dropLevel 이하이고 남은 slot 이 기준 이하면 true
+   * @apiNote 여러 thread 가 동시에 확인하므로 기준은 근사값
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private boolean isDiscardable(ILoggingEvent event) {
+    return event.getLevel().toInt() <= dropLevel.toInt()
+        && remainingCapacity() <= discardingThreshold;
+  }
+
+}
@@ -0,0 +1,197 @@
+package run.freshr.common.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import run.freshr.common.jfr.AuthOperationEvent;
+import run.freshr.common.jfr.AuthPhaseEvent;
+
+/**
+ * 인증 기능 Metric
+ *
+ * @author FreshR
+ * @apiNote 인증 기능 전체 처리 시간 (auth.operation) 과 단계별 처리 시간 (auth.phase) 을 기록<br>
+ *          Actuator 의 metrics, prometheus endpoint 로 조회<br>
+ *          같은 구간을 JFR event ({@link AuthOperationEvent}, {@link AuthPhaseEvent}) 로도 기록
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+
+  public static final String PUBLIC_KEY = "public-key";
+  public static final String ENCRYPT = "encrypt";
+  public static final String SIGN_IN = "sign-in";
+  public static final String CLIENT_TOKEN = "client-token";
+  public static final String REFRESH = "refresh";
+  public static final String CHANGE_PASSWORD = "change-password";
+  public static final String UPDATE_INFO = "update-info";
+  public static final String INTROSPECT = "introspect";
+
+  private static final String METRIC_OPERATION = "auth.operation";
+  private static final String METRIC_PHASE = "auth.phase";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 전체 처리 시간 기록
+   *
+   * @param operation 기능 이름
+   * @param supplier  기능
+   * @return response entity
+   * @apiNote 응답 상태로 outcome, status tag 를 설정<br>
+   *          예외가 발생하면 outcome 은 EXCEPTION, status 는 예외 class 이름
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public ResponseEntity<?> operation(String operation, Supplier<ResponseEntity<?>> supplier) {
+    AuthOperationEvent event = new AuthOperationEvent();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "EXCEPTION";
+    String status = "NONE";
+
+    event.begin();
+
+    try {
+      ResponseEntity<?> response = supplier.get();
+      int value = response.getStatusCode().value();
+
+      outcome = Outcome.forStatus(value).name();
+      status = String.valueOf(value);
+
+      return response;
+    } catch (RuntimeException e) {
+      status = e.getClass().getSimpleName();
+
+      throw e;
+    } finally {
+      stop(operation, event, sample, outcome, status);
+    }
+  }
+
+  /**
+   * 전체 처리 시간 기록
+   *
+   * @param operation 기능 이름
+   * @param mono      기능
+   * @return response entity
+   * @apiNote 비동기 기능의 처리 시간 기록<br>
+   *          구독 시점부터 응답 또는 오류가 발생할 때까지를 기록하고, tag 는 동기 기능과 같다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public Mono<ResponseEntity<?>> operation(String operation, Mono<ResponseEntity<?>> mono) {
+    return Mono.defer(() -> {
+      AuthOperationEvent event = new AuthOperationEvent();
+      Timer.Sample sample = Timer.start(meterRegistry);
+
+      event.begin();
+
+      return mono
+          .doOnSuccess(response -> {
+            int value = response == null ? 0 : response.getStatusCode().value();
+
+            stop(operation, event, sample,
+                response == null ? "UNKNOWN" : Outcome.forStatus(value).name(),
+                String.valueOf(value));
+          })
+          .doOnError(e -> stop(operation, event, sample, "EXCEPTION",
+              e.getClass().getSimpleName()));
+    });
+  }
+
+  /**
+   * 단계별 처리 시간 기록
+   *
+   * @param <T>       반환 유형
+   * @param operation 기능 이름
+   * @param phase     단계 이름
+   * @param supplier  단계 처리
+   * @return 단계 처리 결과
+   * @apiNote 단계별 처리 시간 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public <T> T phase(String operation, String phase, Supplier<T> supplier) {
+    AuthPhaseEvent event = new AuthPhaseEvent();
+    long start = System.nanoTime();
+    String outcome = "EXCEPTION";
+
+    event.begin();
+
+    try {
+      T result = supplier.get();
+
+      outcome = "SUCCESS";
+
+      return result;
+    } finally {
+      phaseTimer(operation, phase).record(System.nanoTime() - start, NANOSECONDS);
+      commit(event, operation, phase, outcome);
+    }
+  }
+
+  /**
+   * 단계별 처리 시간 기록
+   *
+   * @param operation 기능 이름
+   * @param phase     단계 이름
+   * @param runnable  단계 처리
+   * @apiNote 반환 값이 없는 단계의 처리 시간 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void phase(String operation, String phase, Runnable runnable) {
+    phase(operation, phase, () -> {
+      runnable.run();
+
+      return null;
+    });
+  }
+
+  private void stop(String operation, AuthOperationEvent event, Timer.Sample sample,
+      String outcome, String status) {
+    event.end();
+
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.outcome = outcome;
+      event.status = status;
+      event.commit();
+    }
+
+    sample.stop(Timer.builder(METRIC_OPERATION)
+        .description("인증 기능 처리 시간")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .tag("status", status)
+        .register(meterRegistry));
+  }
+
+  private void commit(AuthPhaseEvent event, String operation, String phase, String outcome) {
+    event.end();
+
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.phase = phase;
+      event.outcome = outcome;
+      event.commit();
+    }
+  }
+
+  private Timer phaseTimer(String operation, String phase) {
+    return Timer.builder(METRIC_PHASE)
+        .description("인증 기능 단계별 처리 시간")
+        .tag("operation", operation)
+        .tag("phase", phase)
+        .register(meterRegistry);
+  }
+
+}
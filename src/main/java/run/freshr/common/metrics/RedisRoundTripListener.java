@@ -0,0 +1,70 @@
+package run.freshr.common.metrics;
+
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import java.util.Map;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 명령 집계
+ *
+ * @author FreshR
+ * @apiNote Lettuce client 에 등록해서 실제로 전송한 Redis 명령 단위로 {@link RoundTrip} 에 기록<br>
+ *          Unit 호출 하나가 여러 명령 (HGETALL, DEL, SADD, EXPIRE, EVALSHA 등) 을 보내는 경우도 모두 집계<br>
+ *          명령 시작 event 는 명령을 보낸 thread 에서 발생하므로 그 thread 의 집계에 횟수를 기록하고,<br>
+ *          완료 event 는 Lettuce event loop 에서 발생하므로 시작할 때 context 에 보관한 집계에 시간을 기록
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+public class RedisRoundTripListener implements CommandListener, BeanPostProcessor {
+
+  private static final String CONTEXT_ROUND_TRIP = RoundTrip.class.getName();
+  private static final String CONTEXT_START = RoundTrip.class.getName() + ".start";
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof LettuceConnectionFactory connectionFactory) {
+      connectionFactory.getRequiredNativeClient().addListener(this);
+    }
+
+    return bean;
+  }
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    RoundTrip roundTrip = RoundTrip.current();
+
+    if (roundTrip == null) {
+      return;
+    }
+
+    roundTrip.addRedis();
+
+    Map<String, Object> context = event.getContext();
+
+    context.put(CONTEXT_ROUND_TRIP, roundTrip);
+    context.put(CONTEXT_START, System.nanoTime());
+  }
+
+  @Override
+  public void commandSucceeded(CommandSucceededEvent event) {
+    complete(event.getContext());
+  }
+
+  @Override
+  public void commandFailed(CommandFailedEvent event) {
+    complete(event.getContext());
+  }
+
+  private static void complete(Map<String, Object> context) {
+    if (context.get(CONTEXT_ROUND_TRIP) instanceof RoundTrip roundTrip
+        && context.get(CONTEXT_START) instanceof Long start) {
+      roundTrip.addRedisNanos(System.nanoTime() - start);
+    }
+  }
+
+}
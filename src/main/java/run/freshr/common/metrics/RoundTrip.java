@@ -0,0 +1,151 @@
+package run.freshr.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 단위 backend 호출 집계
+ *
+ * @author FreshR
+ * @apiNote 요청을 처리하는 thread 에 보관하며 Redis 명령, SQL 실행 횟수와 누적 시간을 기록<br>
+ *          {@link RoundTripFilter} 가 요청 시작 시 생성하고 종료 시 제거<br>
+ *          {@link run.freshr.common.concurrent.TaskScope} 로 시작한 작업에는 {@link #propagate(Runnable)}
+ *          로 같은 집계를 전달하므로 여러 thread 에서 동시에 기록할 수 있다.<br>
+ *          그 외의 thread (reactive 토큰 갱신의 Reactor scheduler, gRPC 요청 thread) 에서 실행한 호출은<br>
+ *          집계하지 않으므로 응답 header 와 요청 단위 metric 은 servlet 요청 thread 의 호출만 포함
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+public class RoundTrip {
+
+  private static final ThreadLocal<RoundTrip> holder = new ThreadLocal<>();
+
+  private final LongAdder redisCount = new LongAdder();
+  private final LongAdder redisNanos = new LongAdder();
+  private final LongAdder sqlCount = new LongAdder();
+  private final LongAdder sqlNanos = new LongAdder();
+
+  /**
+   * 집계 시작
+   *
+   * @return round trip
+   * @apiNote 현재 thread 에 새로운 집계를 설정
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static RoundTrip start() {
+    RoundTrip roundTrip = new RoundTrip();
+
+    holder.set(roundTrip);
+
+    return roundTrip;
+  }
+
+  /**
+   * 현재 집계 조회
+   *
+   * @return round trip 집계 중이 아니면 null
+   * @apiNote 현재 집계 조회
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static RoundTrip current() {
+    return holder.get();
+  }
+
+  /**
+   * 집계 종료
+   *
+   * @apiNote 현재 thread 의 집계를 제거
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static void finish() {
+    holder.remove();
+  }
+
+  /**
+   * 집계 전달
+   *
+   * @param runnable 다른 thread 에서 실행할 작업
+   * @return 현재 집계를 설정하고 실행하는 작업 집계 중이 아니면 전달받은 작업
+   * @apiNote 작업을 실행하는 동안 현재 thread 의 집계를 설정하고, 끝나면 실행 thread 의 이전 상태로 복원<br>
+   *          요청 thread 에서 직접 실행하는 경우에도 요청 thread 의 집계를 제거하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static Runnable propagate(Runnable runnable) {
+    RoundTrip roundTrip = holder.get();
+
+    if (roundTrip == null) {
+      return runnable;
+    }
+
+    return () -> {
+      RoundTrip previous = holder.get();
+
+      holder.set(roundTrip);
+
+      try {
+        runnable.run();
+      } finally {
+        if (previous == null) {
+          holder.remove();
+        } else {
+          holder.set(previous);
+        }
+      }
+    };
+  }
+
+  /**
+   * Redis 명령 기록
+   *
+   * @apiNote 명령을 보낸 thread 에서 호출
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void addRedis() {
+    redisCount.increment();
+  }
+
+  /**
+   * Redis 명령 처리 시간 기록
+   *
+   * @param nanos 처리 시간
+   * @apiNote 명령이 완료된 Lettuce event loop 에서 호출
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void addRedisNanos(long nanos) {
+    redisNanos.add(nanos);
+  }
+
+  /**
+   * SQL 실행 기록
+   *
+   * @param nanos 처리 시간
+   * @apiNote SQL 실행 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void addSql(long nanos) {
+    sqlCount.increment();
+    sqlNanos.add(nanos);
+  }
+
+  public long getRedisCount() {
+    return redisCount.sum();
+  }
+
+  public long getRedisNanos() {
+    return redisNanos.sum();
+  }
+
+  public long getSqlCount() {
+    return sqlCount.sum();
+  }
+
+  public long getSqlNanos() {
+    return sqlNanos.sum();
+  }
+
+}
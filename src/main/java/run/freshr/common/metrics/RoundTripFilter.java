@@ -0,0 +1,79 @@
+package run.freshr.common.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.core.Ordered.HIGHEST_PRECEDENCE;
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 단위 backend 호출 집계 filter
+ *
+ * @author FreshR
+ * @apiNote 요청마다 {@link RoundTrip} 을 시작하고, 종료 시 endpoint 별 metric 으로 기록<br>
+ *          auth.request.redis, auth.request.sql (호출 횟수),<br>
+ *          auth.request.redis.time, auth.request.sql.time (누적 시간)
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+@Order(HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RoundTripFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    RoundTrip roundTrip = RoundTrip.start();
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RoundTrip.finish();
+
+      record(request, roundTrip);
+    }
+  }
+
+  private void record(HttpServletRequest request, RoundTrip roundTrip) {
+    Object pattern = request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE);
+    Tags tags = Tags.of(
+        "method", request.getMethod(),
+        "uri", pattern == null ? "UNKNOWN" : pattern.toString());
+
+    DistributionSummary.builder("auth.request.redis")
+        .description("요청 당 Redis 호출 횟수")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(roundTrip.getRedisCount());
+    Timer.builder("auth.request.redis.time")
+        .description("요청 당 Redis 호출 누적 시간")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(roundTrip.getRedisNanos(), NANOSECONDS);
+    DistributionSummary.builder("auth.request.sql")
+        .description("요청 당 SQL 실행 횟수")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(roundTrip.getSqlCount());
+    Timer.builder("auth.request.sql.time")
+        .description("요청 당 SQL 실행 누적 시간")
+        .tags(tags)
+        .register(meterRegistry)
+        .record(roundTrip.getSqlNanos(), NANOSECONDS);
+  }
+
+}
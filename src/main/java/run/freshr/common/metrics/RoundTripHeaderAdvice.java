@@ -0,0 +1,58 @@
+package run.freshr.common.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청 단위 backend 호출 집계 header
+ *
+ * @author FreshR
+ * @apiNote freshr.round-trip.header 가 true 일 때 응답 header 로 {@link RoundTrip} 집계 결과를 전달<br>
+ *          디버깅과 테스트에서 호출 횟수 상한을 검증할 때 사용
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "freshr.round-trip.header", havingValue = "true")
+public class RoundTripHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String HEADER_REDIS_COUNT = "X-Round-Trip-Redis";
+  public static final String HEADER_REDIS_TIME = "X-Round-Trip-Redis-Micros";
+  public static final String HEADER_SQL_COUNT = "X-Round-Trip-Sql";
+  public static final String HEADER_SQL_TIME = "X-Round-Trip-Sql-Micros";
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType,
+      MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request, ServerHttpResponse response) {
+    RoundTrip roundTrip = RoundTrip.current();
+
+    if (roundTrip != null) {
+      HttpHeaders headers = response.getHeaders();
+
+      headers.set(HEADER_REDIS_COUNT, String.valueOf(roundTrip.getRedisCount()));
+      headers.set(HEADER_REDIS_TIME,
+          String.valueOf(NANOSECONDS.toMicros(roundTrip.getRedisNanos())));
+      headers.set(HEADER_SQL_COUNT, String.valueOf(roundTrip.getSqlCount()));
+      headers.set(HEADER_SQL_TIME,
+          String.valueOf(NANOSECONDS.toMicros(roundTrip.getSqlNanos())));
+    }
+
+    return body;
+  }
+
+}
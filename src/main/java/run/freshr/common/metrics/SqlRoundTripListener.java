@@ -0,0 +1,28 @@
+package run.freshr.common.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import java.sql.SQLException;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 실행 집계
+ *
+ * @author FreshR
+ * @apiNote p6spy 의 실행 event 로 SQL 실행 횟수와 시간을 {@link RoundTrip} 에 기록
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+public class SqlRoundTripListener extends JdbcEventListener {
+
+  @Override
+  public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+      SQLException e) {
+    RoundTrip roundTrip = RoundTrip.current();
+
+    if (roundTrip != null) {
+      roundTrip.addSql(timeElapsedNanos);
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+package run.freshr.common.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access 토큰 유효 시간
+ *
+ * @author FreshR
+ * @apiNote 로그인, 토큰 갱신 응답의 expiresIn 을 계산<br>
+ *          같은 시각에 로그인한 client 들이 같은 주기로 갱신 요청을 보내지 않도록<br>
+ *          access-expiration 에서 최대 jitter 비율만큼 무작위로 줄인 값을 알려준다.<br>
+ *          JWT 만료 시간은 TokenProvider 가 access-expiration 으로 발급하므로<br>
+ *          expiresIn 은 항상 실제 만료 시간 이하이고, 무시하는 client 도 그대로 동작한다.
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@Component
+public class AccessTokenLifetime {
+
+  private static final double MAX_JITTER = 0.5;
+
+  private final long expiration;
+  private final long spread;
+
+  public AccessTokenLifetime(@Value("${freshr.entity.access-expiration}") long expiration,
+      @Value("${freshr.access-token.jitter:0.1}") double jitter) {
+    this.expiration = expiration;
+    this.spread = (long) (expiration * Math.max(0, Math.min(jitter, MAX_JITTER)));
+  }
+
+  /**
+   * 유효 시간 (초)
+   *
+   * @return access-expiration
+   * @apiNote JWT 만료 시간
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public long getExpiration() {
+    return expiration;
+  }
+
+  /**
+   * 다음 유효 시간 (초)
+   *
+   * @return access-expiration - [0, access-expiration * jitter]
+   * @apiNote jitter 가 0 이면 access-expiration
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  public long next() {
+    if (spread <= 0) {
+      return expiration;
+    }
+
+    return expiration - ThreadLocalRandom.current().nextLong(spread + 1);
+  }
+
+}
@@ -4,8 +4,10 @@ import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 import static org.springframework.security.web.header.writers.XXssProtectionHeaderWriter.HeaderValue.ENABLED_MODE_BLOCK;
+import static run.freshr.domain.auth.enumerations.Role.Secured.MANAGER_MAJOR;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -62,7 +64,9 @@ public class SecurityConfiguration {
     return (web) -> web.ignoring()
         .requestMatchers(URIConfiguration.uriFavicon)
         .requestMatchers(GET, URIConfiguration.uriCommonHeartbeat)
-        .requestMatchers(POST, URIConfiguration.uriAuthRefresh);
+        .requestMatchers(GET, URIConfiguration.uriCommonReadiness)
+        .requestMatchers(POST, URIConfiguration.uriAuthRefresh)
+        .requestMatchers(GET, URIConfiguration.uriAuthIntrospect);
   }
 
   /**
@@ -71,7 +75,8 @@ public class SecurityConfiguration {
    * @param httpSecurity http security
    * @return security filter chain
    * @throws Exception exception
-   * @apiNote Security 설정
+   * @apiNote Actuator 는 health, prometheus 만 공개하고<br>
+   *          나머지 (metrics, sqltrace, jfr 등) 는 MANAGER_MAJOR 권한이 있어야 호출 가능
    * @author FreshR
    * @since 2024. 4. 2. 오전 10:03:46
    */
@@ -80,7 +85,10 @@ public class SecurityConfiguration {
     httpSecurity
         .csrf(AbstractHttpConfigurer::disable)
         .sessionManagement(configurer -> configurer.sessionCreationPolicy(STATELESS))
-        .authorizeHttpRequests(registry -> registry.anyRequest().permitAll())
+        .authorizeHttpRequests(registry -> registry
+            .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+            .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAuthority(MANAGER_MAJOR)
+            .anyRequest().permitAll())
         .headers(headers -> headers.xssProtection(xss -> xss.headerValue(ENABLED_MODE_BLOCK))
             .contentSecurityPolicy(csp -> csp.policyDirectives("default-src 'self'")))
         .addFilterBefore(new TokenAuthenticationFilter(tokenProvider, exceptionsData),
@@ -0,0 +1,89 @@
+package run.freshr.common.snapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * 설정 snapshot 으로 기동
+ *
+ * @author FreshR
+ * @apiNote Config data 처리 전에 실행해서 snapshot 이 있으면 configSnapshot property source 로 추가하고<br>
+ *          spring.cloud.config.enabled 를 false 로 덮어써서 optional:configserver: import 를 건너뛴다.<br>
+ *          snapshot 은 profile yml 보다 우선순위가 높고, config server 설정과 같은 위치에 추가<br>
+ *          - profile 은 yml 이 아닌 환경 변수, 실행 인자 (SPRING_PROFILES_ACTIVE) 로 지정해야 사용<br>
+ *          - refresh scope 가 비활성화되어 있으면 (AOT) config server 와 동기화할 수 없으므로 사용하지 않는다.<br>
+ *          - 파일이 없거나 복호화에 실패하면 기존처럼 config server 에서 설정을 받는다.<br>
+ *          기동 후 동기화는 {@link ConfigSnapshotReconciler} 에서 처리
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+public class ConfigSnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+  public static final String PROPERTY_SOURCE_NAME = "configSnapshot";
+
+  private final Log log;
+
+  public ConfigSnapshotEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+    this.log = logFactory.getLog(ConfigSnapshotEnvironmentPostProcessor.class);
+  }
+
+  @Override
+  public void postProcessEnvironment(ConfigurableEnvironment environment,
+      SpringApplication application) {
+    Binder binder = Binder.get(environment);
+    String[] activeProfiles = environment.getActiveProfiles();
+
+    if (activeProfiles.length == 0
+        || !binder.bind("spring.cloud.refresh.enabled", Boolean.class).orElse(true)) {
+      return;
+    }
+
+    Optional<ConfigSnapshotStore> store = ConfigSnapshotStore.of(binder);
+
+    if (store.isEmpty()) {
+      return;
+    }
+
+    String profiles = String.join(",", activeProfiles);
+    Map<String, Object> source = new LinkedHashMap<>();
+
+    try {
+      Optional<Map<String, String>> snapshot = store.get().read(profiles);
+
+      if (snapshot.isEmpty()) {
+        log.info("[ConfigSnapshot] no snapshot for " + profiles + ", using config server");
+
+        return;
+      }
+
+      source.putAll(snapshot.get());
+    } catch (Exception e) {
+      log.warn("[ConfigSnapshot] unreadable snapshot for " + profiles + ", using config server: "
+          + e.getMessage());
+
+      return;
+    }
+
+    source.put("spring.cloud.config.enabled", false);
+
+    environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, source));
+
+    log.info("[ConfigSnapshot] started from snapshot " + store.get().file(profiles)
+        + " (" + (source.size() - 1) + " properties)");
+  }
+
+  @Override
+  public int getOrder() {
+    return ConfigDataEnvironmentPostProcessor.ORDER - 1;
+  }
+
+}
@@ -0,0 +1,216 @@
+package run.freshr.common.snapshot;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static run.freshr.common.snapshot.ConfigSnapshotEnvironmentPostProcessor.PROPERTY_SOURCE_NAME;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정 snapshot 동기화
+ *
+ * @author FreshR
+ * @apiNote 기동이 끝난 뒤 background thread 에서 config server 와 동기화<br>
+ *          - snapshot 으로 기동: {@link ContextRefresher} 로 config server 설정을 다시 읽고,<br>
+ *            바뀐 key 는 EnvironmentChangeEvent, refresh scope 로 반영한 뒤 snapshot 을 제거하고 다시 저장<br>
+ *            config server 에 연결할 수 없으면 freshr.config-snapshot.retry-interval 간격으로 재시도<br>
+ *          - config server 로 기동: 받은 설정을 snapshot 으로 저장<br>
+ *          결과는 auth.config-snapshot (result: saved, reconciled, failed) 으로 기록
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Slf4j
+@Component
+public class ConfigSnapshotReconciler {
+
+  private static final String CONFIG_SERVER_PREFIX = "configserver:";
+
+  private final ConfigurableEnvironment environment;
+  private final ApplicationContext applicationContext;
+  private final ObjectProvider<ContextRefresher> contextRefresher;
+  private final MeterRegistry meterRegistry;
+  private final long retryInterval;
+
+  private final ScheduledExecutorService executorService =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "config-snapshot");
+
+        thread.setDaemon(true);
+
+        return thread;
+      });
+
+  public ConfigSnapshotReconciler(ConfigurableEnvironment environment,
+      ApplicationContext applicationContext, ObjectProvider<ContextRefresher> contextRefresher,
+      MeterRegistry meterRegistry,
+      @Value("${freshr.config-snapshot.retry-interval:30000}") long retryInterval) {
+    this.environment = environment;
+    this.applicationContext = applicationContext;
+    this.contextRefresher = contextRefresher;
+    this.meterRegistry = meterRegistry;
+    this.retryInterval = retryInterval;
+  }
+
+  /**
+   * 동기화 시작
+   *
+   * @apiNote 요청 처리를 막지 않도록 background thread 에서 실행
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    ConfigSnapshotStore.of(Binder.get(environment)).ifPresent(store -> {
+      if (environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
+        executorService.execute(() -> reconcile(store));
+      } else {
+        executorService.execute(() -> save(store));
+      }
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  /**
+   * Config server 와 동기화
+   *
+   * @param store 저장소
+   * @apiNote config server 설정은 snapshot 보다 우선순위가 높은 위치에 추가되므로<br>
+   *          refresh 결과의 key 목록이 snapshot 과 달라진 설정<br>
+   *          config server 설정을 받지 못하면 snapshot 을 유지하고 재시도
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void reconcile(ConfigSnapshotStore store) {
+    ContextRefresher refresher = contextRefresher.getIfAvailable();
+
+    if (refresher == null) {
+      log.warn("[ConfigSnapshot] refresh is not available, keeping snapshot");
+
+      return;
+    }
+
+    try {
+      Set<String> changed = refresher.refresh();
+
+      if (configServerProperties().isEmpty()) {
+        throw new IllegalStateException("config server returned no property sources");
+      }
+
+      Set<String> removed = snapshotOnlyKeys();
+
+      environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
+
+      if (!removed.isEmpty()) {
+        applicationContext.publishEvent(new EnvironmentChangeEvent(applicationContext, removed));
+      }
+
+      log.info("[ConfigSnapshot] reconciled with config server, changed {}", changed);
+
+      count("reconciled");
+      save(store);
+    } catch (Exception e) {
+      log.warn("[ConfigSnapshot] reconcile failed, retrying in {}ms: {}",
+          retryInterval, e.getMessage());
+
+      count("failed");
+      executorService.schedule(() -> reconcile(store), retryInterval, MILLISECONDS);
+    }
+  }
+
+  /**
+   * Snapshot 저장
+   *
+   * @param store 저장소
+   * @apiNote config server property source 를 우선순위 순서로 합쳐서 저장
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void save(ConfigSnapshotStore store) {
+    Map<String, String> properties = configServerProperties();
+
+    if (properties.isEmpty()) {
+      return;
+    }
+
+    String profiles = String.join(",", environment.getActiveProfiles());
+
+    try {
+      store.write(profiles, properties);
+
+      log.info("[ConfigSnapshot] saved {} properties to {}", properties.size(),
+          store.file(profiles));
+
+      count("saved");
+    } catch (Exception e) {
+      log.warn("[ConfigSnapshot] save failed: {}", e.getMessage());
+
+      count("failed");
+    }
+  }
+
+  private Map<String, String> configServerProperties() {
+    Map<String, String> properties = new LinkedHashMap<>();
+
+    for (PropertySource<?> source : environment.getPropertySources()) {
+      if (source.getName().startsWith(CONFIG_SERVER_PREFIX)
+          && source instanceof EnumerablePropertySource<?> enumerable) {
+        for (String name : enumerable.getPropertyNames()) {
+          Object value = enumerable.getProperty(name);
+
+          if (value != null) {
+            properties.putIfAbsent(name, value.toString());
+          }
+        }
+      }
+    }
+
+    return properties;
+  }
+
+  private Set<String> snapshotOnlyKeys() {
+    PropertySource<?> snapshot = environment.getPropertySources().get(PROPERTY_SOURCE_NAME);
+
+    if (!(snapshot instanceof EnumerablePropertySource<?> enumerable)) {
+      return Set.of();
+    }
+
+    Map<String, String> current = configServerProperties();
+
+    return Arrays.stream(enumerable.getPropertyNames())
+        .filter(name -> !current.containsKey(name))
+        .collect(Collectors.toSet());
+  }
+
+  private void count(String result) {
+    Counter.builder("auth.config-snapshot")
+        .description("Config snapshot save and reconcile results")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+}
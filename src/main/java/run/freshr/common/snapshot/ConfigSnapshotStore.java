@@ -0,0 +1,189 @@
+package run.freshr.common.snapshot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.util.StringUtils;
+
+/**
+ * 설정 snapshot 저장소
+ *
+ * @author FreshR
+ * @apiNote Config server 에서 받은 설정을 AES-GCM 으로 암호화해서 profile 별 파일로 저장<br>
+ *          - 파일: {path}/{profiles}.snapshot (magic 4 byte + IV 12 byte + 암호문)<br>
+ *          - 키: freshr.config-snapshot.key (Base64, 128 / 192 / 256 bit)<br>
+ *          enabled, key, path 는 config data 처리 전에 읽으므로 yml 이 아닌<br>
+ *          환경 변수 (FRESHR_CONFIGSNAPSHOT_KEY, FRESHR_CONFIGSNAPSHOT_PATH), 실행 인자로 설정<br>
+ *          container 를 다시 만들어도 남아 있어야 하므로 path 는 persistent volume 경로로 지정해야 하며,<br>
+ *          key 또는 path 가 없으면 비활성화 (임시 디렉터리에는 저장하지 않는다)<br>
+ *          profile 이름을 AAD 로 사용하므로 다른 profile 의 snapshot 은 복호화되지 않는다.<br>
+ *          EnvironmentPostProcessor 에서도 사용하므로 Bean 이 아닌 {@link Binder} 로 설정을 읽는다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+public class ConfigSnapshotStore {
+
+  public static final String PREFIX = "freshr.config-snapshot";
+
+  private static final byte[] MAGIC = {'F', 'R', 'C', '1'};
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH = 128;
+
+  private final SecureRandom random = new SecureRandom();
+
+  private final SecretKey key;
+  private final Path path;
+
+  private ConfigSnapshotStore(SecretKey key, Path path) {
+    this.key = key;
+    this.path = path;
+  }
+
+  /**
+   * 저장소 생성
+   *
+   * @param binder binder
+   * @return 저장소, 비활성화 또는 키, 경로가 없으면 empty
+   * @apiNote 암호화 키가 없으면 평문으로 저장하지 않도록 비활성화<br>
+   *          경로가 없으면 재시작 후 남아 있지 않을 임시 디렉터리에 쓰지 않도록 비활성화
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static Optional<ConfigSnapshotStore> of(Binder binder) {
+    boolean enabled = binder.bind(PREFIX + ".enabled", Boolean.class).orElse(true);
+    String key = binder.bind(PREFIX + ".key", String.class).orElse(null);
+    String path = binder.bind(PREFIX + ".path", String.class).orElse(null);
+
+    if (!enabled || !StringUtils.hasText(key) || !StringUtils.hasText(path)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new ConfigSnapshotStore(
+        new SecretKeySpec(Base64.getDecoder().decode(key.trim()), "AES"), Path.of(path)));
+  }
+
+  /**
+   * 조회
+   *
+   * @param profiles 활성 profile
+   * @return 설정, 파일이 없으면 empty
+   * @throws IOException              파일을 읽을 수 없는 경우
+   * @throws GeneralSecurityException 키가 다르거나 파일이 변조된 경우
+   * @apiNote 복호화 결과를 그대로 반환
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public Optional<Map<String, String>> read(String profiles)
+      throws IOException, GeneralSecurityException {
+    Path file = file(profiles);
+
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    byte[] magic = new byte[MAGIC.length];
+    byte[] iv = new byte[IV_LENGTH];
+
+    buffer.get(magic).get(iv);
+
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new IOException("not a config snapshot: " + file);
+    }
+
+    byte[] encrypted = new byte[buffer.remaining()];
+
+    buffer.get(encrypted);
+
+    Properties properties = new Properties();
+
+    properties.load(new ByteArrayInputStream(cipher(Cipher.DECRYPT_MODE, iv, profiles)
+        .doFinal(encrypted)));
+
+    Map<String, String> map = new LinkedHashMap<>();
+
+    properties.stringPropertyNames().forEach(name -> map.put(name, properties.getProperty(name)));
+
+    return Optional.of(map);
+  }
+
+  /**
+   * 저장
+   *
+   * @param profiles 활성 profile
+   * @param map      설정
+   * @throws IOException              파일을 쓸 수 없는 경우
+   * @throws GeneralSecurityException 암호화할 수 없는 경우
+   * @apiNote 임시 파일에 쓴 뒤 교체하므로 기동 중인 다른 instance 는 이전 또는 새 파일만 읽는다.<br>
+   *          POSIX 파일 시스템이면 소유자만 읽을 수 있도록 권한을 제한
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void write(String profiles, Map<String, String> map)
+      throws IOException, GeneralSecurityException {
+    Properties properties = new Properties();
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    byte[] iv = new byte[IV_LENGTH];
+
+    properties.putAll(map);
+    properties.store(plain, null);
+    random.nextBytes(iv);
+
+    byte[] encrypted = cipher(Cipher.ENCRYPT_MODE, iv, profiles).doFinal(plain.toByteArray());
+    byte[] content = ByteBuffer.allocate(MAGIC.length + IV_LENGTH + encrypted.length)
+        .put(MAGIC)
+        .put(iv)
+        .put(encrypted)
+        .array();
+
+    Files.createDirectories(path);
+
+    Path temp = Files.createTempFile(path, "snapshot", ".tmp");
+
+    try {
+      if (Files.getFileStore(temp).supportsFileAttributeView("posix")) {
+        Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+      }
+
+      Files.write(temp, content);
+      Files.move(temp, file(profiles), ATOMIC_MOVE, REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  public Path file(String profiles) {
+    return path.resolve(profiles + ".snapshot");
+  }
+
+  private Cipher cipher(int mode, byte[] iv, String profiles) throws GeneralSecurityException {
+    Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+
+    cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH, iv));
+    cipher.updateAAD(profiles.getBytes(UTF_8));
+
+    return cipher;
+  }
+
+}
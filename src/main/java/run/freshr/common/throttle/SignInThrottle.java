@@ -0,0 +1,171 @@
+package run.freshr.common.throttle;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 실패 제한
+ *
+ * @author FreshR
+ * @apiNote 아이디, Client IP, client credentials 의 client 아이디 별 로그인 실패를 Redis sliding window 로 집계<br>
+ *          실패 횟수가 기준을 넘으면 기준을 넘은 횟수만큼 2 배씩 늘어나는 시간 동안 차단<br>
+ *          집계와 차단은 Lua script 로 원자적으로 처리
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+public class SignInThrottle {
+
+  public static final String TYPE_IP = "ip";
+  public static final String TYPE_USERNAME = "username";
+  public static final String TYPE_CLIENT = "client";
+
+  private static final String KEY_PREFIX = "sign-in-throttle:";
+
+  private static final RedisScript<Long> CHECK_SCRIPT = RedisScript
+      .of(new ClassPathResource("scripts/sign-in-throttle-check.lua"), Long.class);
+  private static final RedisScript<Long> FAILURE_SCRIPT = RedisScript
+      .of(new ClassPathResource("scripts/sign-in-throttle-failure.lua"), Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final MeterRegistry meterRegistry;
+
+  private final boolean enabled;
+  private final long window;
+  private final long ipThreshold;
+  private final long usernameThreshold;
+  private final long baseBlock;
+  private final long maxBlock;
+
+  public SignInThrottle(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+      @Value("${freshr.throttle.enabled:true}") boolean enabled,
+      @Value("${freshr.throttle.window:600}") long window,
+      @Value("${freshr.throttle.ip-threshold:50}") long ipThreshold,
+      @Value("${freshr.throttle.username-threshold:5}") long usernameThreshold,
+      @Value("${freshr.throttle.base-block:1}") long baseBlock,
+      @Value("${freshr.throttle.max-block:900}") long maxBlock) {
+    this.redisTemplate = redisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.window = SECONDS.toMillis(window);
+    this.ipThreshold = ipThreshold;
+    this.usernameThreshold = usernameThreshold;
+    this.baseBlock = SECONDS.toMillis(baseBlock);
+    this.maxBlock = SECONDS.toMillis(maxBlock);
+  }
+
+  /**
+   * 차단 여부 확인
+   *
+   * @param type  {@link #TYPE_IP}, {@link #TYPE_USERNAME}, {@link #TYPE_CLIENT}
+   * @param value IP, 아이디 또는 client 아이디
+   * @return 남은 차단 시간 (ms), 차단 중이 아니면 0
+   * @apiNote 차단 중이면 auth.sign-in.throttle.blocked 를 증가
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public long check(String type, String value) {
+    if (!enabled) {
+      return 0;
+    }
+
+    Long remain = redisTemplate.execute(CHECK_SCRIPT, List.of(blockKey(type, value)));
+
+    if (remain == null || remain <= 0) {
+      return 0;
+    }
+
+    counter("auth.sign-in.throttle.blocked", "차단된 로그인 요청 수", type).increment();
+
+    return remain;
+  }
+
+  /**
+   * 로그인 실패 기록
+   *
+   * @param type  {@link #TYPE_IP}, {@link #TYPE_USERNAME}, {@link #TYPE_CLIENT}
+   * @param value IP, 아이디 또는 client 아이디
+   * @apiNote 기준을 넘으면 차단 key 를 설정<br>
+   *          아이디와 client 아이디는 같은 기준 (username-threshold) 을 사용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void failure(String type, String value) {
+    if (!enabled) {
+      return;
+    }
+
+    long threshold = TYPE_IP.equals(type) ? ipThreshold : usernameThreshold;
+
+    redisTemplate.execute(FAILURE_SCRIPT,
+        List.of(windowKey(type, value), blockKey(type, value)),
+        String.valueOf(System.currentTimeMillis()),
+        String.valueOf(window),
+        String.valueOf(threshold),
+        String.valueOf(baseBlock),
+        String.valueOf(maxBlock),
+        UUID.randomUUID().toString());
+
+    counter("auth.sign-in.throttle.failure", "로그인 실패 수", type).increment();
+  }
+
+  /**
+   * 로그인 성공 기록
+   *
+   * @param type  {@link #TYPE_USERNAME} 또는 {@link #TYPE_CLIENT}
+   * @param value 아이디 또는 client 아이디
+   * @apiNote 아이디의 실패 기록을 초기화<br>
+   *          IP 는 여러 계정이 공유할 수 있으므로 초기화하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void success(String type, String value) {
+    if (!enabled) {
+      return;
+    }
+
+    redisTemplate.delete(windowKey(type, value));
+  }
+
+  /**
+   * Client IP 조회
+   *
+   * @param request 요청 정보
+   * @return client ip
+   * @apiNote X-Forwarded-For 의 첫 번째 값은 client 가 임의로 지정할 수 있으므로 직접 읽지 않는다.<br>
+   *          server.forward-headers-strategy: native 로 Tomcat RemoteIpValve 가<br>
+   *          X-Forwarded-For 를 오른쪽부터 확인해서 신뢰하는 proxy (server.tomcat.remoteip.internal-proxies)<br>
+   *          가 아닌 첫 번째 주소를 remote address 로 설정하므로 그 값을 사용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static String getClientIp(HttpServletRequest request) {
+    return request.getRemoteAddr();
+  }
+
+  private String windowKey(String type, String value) {
+    return KEY_PREFIX + type + ":" + value;
+  }
+
+  private String blockKey(String type, String value) {
+    return KEY_PREFIX + type + ":" + value + ":block";
+  }
+
+  private Counter counter(String name, String description, String type) {
+    return Counter.builder(name)
+        .description(description)
+        .tag("type", type)
+        .register(meterRegistry);
+  }
+
+}
@@ -0,0 +1,312 @@
+package run.freshr.common.throttle;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static run.freshr.domain.account.entity.QAccount.account;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.freshr.domain.account.entity.Account;
+
+/**
+ * 존재하는 아이디 Bloom filter
+ *
+ * @author FreshR
+ * @apiNote 존재하는 계정 아이디를 메모리의 Bloom filter 로 관리<br>
+ *          filter 에 없고 최근 가입 key 도 없는 아이디는 DB 조회 없이 거절할 수 있다.<br>
+ *          - 기동 시 전체 계정 아이디를 stream 으로 읽어서 생성<br>
+ *          - 이 서비스에서 생성한 계정은 commit 후 즉시 추가하고 최근 가입 key 를 저장<br>
+ *          - 다른 서비스에서 생성한 계정은 생성 날짜 시간 기준으로 주기적으로 추가<br>
+ *          - Bloom filter 는 삭제를 지원하지 않으므로 탈퇴한 계정은 주기적인 재생성으로 제거<br>
+ *          주기적인 추가 전에 로그인해도 거절하지 않도록 filter 에 없으면 Redis 의 최근 가입 key<br>
+ *          (sign-up:{아이디}) 를 확인한다. 계정을 생성하는 서비스는 commit 직후<br>
+ *          refresh-interval + refresh-skew 보다 긴 유효 기간으로 이 key 를 저장해야 한다.<br>
+ *          주기적인 추가는 마지막으로 읽은 계정의 생성 날짜 시간 (DB 값) 부터 조회하므로<br>
+ *          이 서비스의 시계와 무관하고, 지연된 replica 를 피하도록 primary 에서 조회
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Slf4j
+@Component
+public class UsernameFilter implements PostCommitInsertEventListener {
+
+  /**
+   * 응답 시간 평균 가중치
+   *
+   * @apiNote 새로운 DB 조회 시간을 평균에 반영하는 비율
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private static final double LOOKUP_WEIGHT = 0.05;
+
+  /**
+   * 최근 가입 key prefix
+   *
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public static final String RECENT_PREFIX = "sign-up:";
+
+  private final EntityManager entityManager;
+  private final EntityManagerFactory entityManagerFactory;
+  private final TransactionTemplate rebuildTemplate;
+  private final TransactionTemplate refreshTemplate;
+  private final StringRedisTemplate redisTemplate;
+  private final Counter rejected;
+
+  private final boolean enabled;
+  private final double fpp;
+  private final long refreshSkew;
+  private final long recentTtl;
+
+  private volatile BloomFilter<CharSequence> filter;
+  private volatile LocalDateTime syncAt;
+  private volatile double lookupNanos = MILLISECONDS.toNanos(1);
+
+  public UsernameFilter(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+      PlatformTransactionManager transactionManager, StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${freshr.username-filter.enabled:true}") boolean enabled,
+      @Value("${freshr.username-filter.fpp:0.01}") double fpp,
+      @Value("${freshr.username-filter.refresh-skew:10}") long refreshSkew,
+      @Value("${freshr.username-filter.recent-ttl:60}") long recentTtl) {
+    this.entityManager = entityManager;
+    this.entityManagerFactory = entityManagerFactory;
+    // 재생성은 전체를 읽으므로 replica, 주기적인 추가는 최신 계정을 읽어야 하므로 primary
+    this.rebuildTemplate = new TransactionTemplate(transactionManager);
+    this.rebuildTemplate.setReadOnly(true);
+    this.refreshTemplate = new TransactionTemplate(transactionManager);
+    this.redisTemplate = redisTemplate;
+    this.enabled = enabled;
+    this.fpp = fpp;
+    this.refreshSkew = refreshSkew;
+    this.recentTtl = recentTtl;
+    this.rejected = Counter.builder("auth.username-filter.rejected")
+        .description("존재하지 않는 아이디로 DB 조회 없이 거절한 로그인 수")
+        .register(meterRegistry);
+
+    Gauge.builder("auth.username-filter.size", this,
+            usernameFilter -> usernameFilter.filter == null
+                ? 0 : usernameFilter.filter.approximateElementCount())
+        .description("Bloom filter 의 예상 아이디 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Bloom filter 생성
+   *
+   * @apiNote 기동 완료 후 생성하며, 생성 전까지는 모든 아이디를 DB 로 조회<br>
+   *          이 서비스에서 생성하는 계정을 즉시 반영하도록 Hibernate event 를 등록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    if (!enabled) {
+      return;
+    }
+
+    entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getServiceRegistry()
+        .getService(EventListenerRegistry.class)
+        .appendListeners(EventType.POST_COMMIT_INSERT, this);
+
+    rebuild();
+  }
+
+  /**
+   * Bloom filter 재생성
+   *
+   * @apiNote 탈퇴한 계정을 제거하고 계정 수에 맞게 크기를 조정
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Scheduled(fixedDelayString = "${freshr.username-filter.rebuild-interval:3600000}",
+      initialDelayString = "${freshr.username-filter.rebuild-interval:3600000}")
+  public void rebuild() {
+    if (!enabled) {
+      return;
+    }
+
+    rebuildTemplate.executeWithoutResult(status -> {
+      JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+      Long count = queryFactory.select(account.count()).from(account).fetchOne();
+      // 이후 추가된 계정은 주기적인 추가에서 이 시간부터 조회
+      LocalDateTime latest = queryFactory.select(account.createAt.max()).from(account).fetchOne();
+      BloomFilter<CharSequence> next = BloomFilter.create(Funnels.stringFunnel(UTF_8),
+          Math.max((count == null ? 0 : count) * 2, 10_000), fpp);
+
+      try (Stream<String> stream = queryFactory
+          .select(account.username)
+          .from(account)
+          .stream()) {
+        stream.forEach(next::put);
+      }
+
+      filter = next;
+      syncAt = latest;
+
+      log.info("[UsernameFilter] rebuilt with {} accounts", count);
+    });
+  }
+
+  /**
+   * 신규 계정 반영
+   *
+   * @apiNote 다른 서비스에서 생성한 계정을 생성 날짜 시간 기준으로 추가<br>
+   *          마지막으로 읽은 생성 날짜 시간에서 refresh-skew 만큼 앞부터 조회해서<br>
+   *          계정을 생성한 서버들의 시계 차이, 늦게 commit 된 계정도 포함
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Scheduled(fixedDelayString = "${freshr.username-filter.refresh-interval:10000}")
+  public void refresh() {
+    BloomFilter<CharSequence> current = filter;
+
+    if (current == null) {
+      return;
+    }
+
+    LocalDateTime since = syncAt;
+
+    refreshTemplate.executeWithoutResult(status -> {
+      LocalDateTime latest = since;
+
+      try (Stream<Tuple> stream = new JPAQueryFactory(entityManager)
+          .select(account.username, account.createAt)
+          .from(account)
+          .where(since == null ? null : account.createAt.goe(since.minusSeconds(refreshSkew)))
+          .stream()) {
+        for (Tuple tuple : (Iterable<Tuple>) stream::iterator) {
+          LocalDateTime createAt = tuple.get(account.createAt);
+
+          current.put(tuple.get(account.username));
+
+          if (createAt != null && (latest == null || createAt.isAfter(latest))) {
+            latest = createAt;
+          }
+        }
+      }
+
+      syncAt = latest;
+    });
+  }
+
+  /**
+   * 아이디 존재 가능성 확인
+   *
+   * @param username 아이디
+   * @return false 면 확실히 존재하지 않는 아이디
+   * @apiNote filter 가 생성되기 전에는 항상 true<br>
+   *          filter 에 없으면 최근 가입 key 를 확인하고, 있으면 filter 에 추가한 뒤 true
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public boolean mightContain(String username) {
+    BloomFilter<CharSequence> current = filter;
+
+    if (current == null || current.mightContain(username)) {
+      return true;
+    }
+
+    if (Boolean.TRUE.equals(redisTemplate.hasKey(RECENT_PREFIX + username))) {
+      current.put(username);
+
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * DB 조회 시간 기록
+   *
+   * @param nanos 조회 시간
+   * @apiNote 거절 응답 시간을 DB 조회 응답 시간과 맞추기 위해 평균을 기록<br>
+   *          존재하지 않는 아이디의 조회와 같도록 존재 여부 조회 (existsByUsername) 시간만 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void observeLookup(long nanos) {
+    lookupNanos += (nanos - lookupNanos) * LOOKUP_WEIGHT;
+  }
+
+  /**
+   * 존재하지 않는 아이디 거절
+   *
+   * @apiNote 응답 시간으로 아이디 존재 여부를 알 수 없도록 평균 DB 조회 시간만큼 대기
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void reject() {
+    rejected.increment();
+
+    LockSupport.parkNanos((long) lookupNanos);
+  }
+
+  /**
+   * 계정 생성 반영
+   *
+   * @param event insert event
+   * @apiNote commit 후 filter 에 추가하고, 다른 instance 도 바로 찾을 수 있도록 최근 가입 key 저장
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (!(event.getEntity() instanceof Account entity)) {
+      return;
+    }
+
+    BloomFilter<CharSequence> current = filter;
+
+    if (current != null) {
+      current.put(entity.getUsername());
+    }
+
+    redisTemplate.opsForValue().set(RECENT_PREFIX + entity.getUsername(), "1", recentTtl,
+        SECONDS);
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+  }
+
+  /**
+   * Commit 후 처리 여부
+   *
+   * @param persister entity persister
+   * @return 계정 entity 면 true
+   * @apiNote false 를 반환하면 Hibernate 가 commit 후 {@link #onPostInsert} 를 호출하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return Account.class.isAssignableFrom(persister.getMappedClass());
+  }
+
+}
@@ -0,0 +1,96 @@
+package run.freshr.common.trace;
+
+import static java.util.Comparator.comparing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import run.freshr.domain.common.dto.response.SqlTraceResponse;
+
+/**
+ * SQL 추적 ring buffer
+ *
+ * @author FreshR
+ * @apiNote 고정 크기 lock-free ring buffer 로 마지막 N 건의 SQL 추적 정보를 보관<br>
+ *          크기는 2 의 거듭제곱으로 올림하고, 가득 차면 가장 오래된 기록을 덮어쓴다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+public class SqlTraceBuffer {
+
+  private final AtomicReferenceArray<SqlTraceResponse> slots;
+  private final AtomicLong sequence = new AtomicLong();
+  private final int mask;
+
+  public SqlTraceBuffer(@Value("${freshr.sql-trace.capacity:256}") int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * 기록 순번 발급
+   *
+   * @return sequence
+   * @apiNote 기록 순번 발급
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public long next() {
+    return sequence.getAndIncrement();
+  }
+
+  /**
+   * 기록
+   *
+   * @param trace 추적 정보 ({@link #next()} 로 발급한 순번을 설정)
+   * @apiNote 순번에 해당하는 slot 에 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void add(SqlTraceResponse trace) {
+    slots.set((int) (trace.getSequence() & mask), trace);
+  }
+
+  /**
+   * 기록 조회
+   *
+   * @return 최신순 추적 정보 목록
+   * @apiNote 조회 시점의 snapshot 을 반환
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public List<SqlTraceResponse> getList() {
+    List<SqlTraceResponse> list = new ArrayList<>(slots.length());
+
+    for (int i = 0; i < slots.length(); i++) {
+      SqlTraceResponse trace = slots.get(i);
+
+      if (trace != null) {
+        list.add(trace);
+      }
+    }
+
+    list.sort(comparing(SqlTraceResponse::getSequence).reversed());
+
+    return list;
+  }
+
+  /**
+   * 기록 삭제
+   *
+   * @apiNote 기록 삭제
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void clear() {
+    for (int i = 0; i < slots.length(); i++) {
+      slots.set(i, null);
+    }
+  }
+
+}
@@ -0,0 +1,55 @@
+package run.freshr.common.trace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 추적 Actuator endpoint
+ *
+ * @author FreshR
+ * @apiNote GET /actuator/sqltrace: 설정과 기록 조회<br>
+ *          POST /actuator/sqltrace: 설정 변경 (enabled, slowThreshold, sampleRate)<br>
+ *          DELETE /actuator/sqltrace: 기록 삭제
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sqltrace")
+public class SqlTraceEndpoint {
+
+  private final SqlTraceListener listener;
+  private final SqlTraceBuffer buffer;
+
+  @ReadOperation
+  public Map<String, Object> getSqlTrace() {
+    Map<String, Object> result = new LinkedHashMap<>();
+
+    result.put("enabled", listener.isEnabled());
+    result.put("slowThreshold", listener.getSlowThreshold());
+    result.put("sampleRate", listener.getSampleRate());
+    result.put("traces", buffer.getList());
+
+    return result;
+  }
+
+  @WriteOperation
+  public Map<String, Object> updateSqlTrace(@Nullable Boolean enabled,
+      @Nullable Long slowThreshold, @Nullable Double sampleRate) {
+    listener.configure(enabled, slowThreshold, sampleRate);
+
+    return getSqlTrace();
+  }
+
+  @DeleteOperation
+  public void deleteSqlTrace() {
+    buffer.clear();
+  }
+
+}
@@ -0,0 +1,101 @@
+package run.freshr.common.trace;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import run.freshr.domain.common.dto.response.SqlTraceResponse;
+
+/**
+ * 표본 SQL 추적
+ *
+ * @author FreshR
+ * @apiNote 기준 시간을 넘은 SQL 과 표본 비율만큼의 SQL 을 {@link SqlTraceBuffer} 에 기록<br>
+ *          추적이 꺼져 있으면 volatile 값 하나만 확인하고 반환
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+public class SqlTraceListener extends JdbcEventListener {
+
+  private final SqlTraceBuffer buffer;
+
+  private volatile boolean enabled;
+  private volatile long slowNanos;
+  private volatile double sampleRate;
+
+  public SqlTraceListener(SqlTraceBuffer buffer,
+      @Value("${freshr.sql-trace.enabled:false}") boolean enabled,
+      @Value("${freshr.sql-trace.slow-threshold:100}") long slowThreshold,
+      @Value("${freshr.sql-trace.sample-rate:0.01}") double sampleRate) {
+    this.buffer = buffer;
+    this.enabled = enabled;
+    this.slowNanos = MILLISECONDS.toNanos(slowThreshold);
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+      SQLException e) {
+    if (!enabled) {
+      return;
+    }
+
+    boolean slow = timeElapsedNanos >= slowNanos;
+
+    if (!slow && e == null && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return;
+    }
+
+    buffer.add(SqlTraceResponse.builder()
+        .sequence(buffer.next())
+        .sql(statementInformation.getSql())
+        .elapsed(NANOSECONDS.toMicros(timeElapsedNanos))
+        .slow(slow)
+        .error(e == null ? null : e.getMessage())
+        .executeAt(LocalDateTime.now())
+        .build());
+  }
+
+  /**
+   * 추적 설정 변경
+   *
+   * @param enabled       추적 여부
+   * @param slowThreshold 느린 SQL 기준 시간 (ms)
+   * @param sampleRate    표본 비율 (0 ~ 1)
+   * @apiNote null 인 값은 변경하지 않는다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void configure(Boolean enabled, Long slowThreshold, Double sampleRate) {
+    if (enabled != null) {
+      this.enabled = enabled;
+    }
+
+    if (slowThreshold != null) {
+      this.slowNanos = MILLISECONDS.toNanos(slowThreshold);
+    }
+
+    if (sampleRate != null) {
+      this.sampleRate = sampleRate;
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public long getSlowThreshold() {
+    return NANOSECONDS.toMillis(slowNanos);
+  }
+
+  public double getSampleRate() {
+    return sampleRate;
+  }
+
+}
@@ -0,0 +1,220 @@
+package run.freshr.common.warmup;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static run.freshr.domain.account.enumerations.AccountStatus.ACTIVE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.KeyPair;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import run.freshr.common.enumerations.Gender;
+import run.freshr.common.security.TokenProvider;
+import run.freshr.common.utils.CryptoUtil;
+import run.freshr.common.utils.MapperUtil;
+import run.freshr.domain.account.entity.Account;
+import run.freshr.domain.auth.dto.response.AccountResponse;
+import run.freshr.domain.auth.dto.response.IntrospectResponse;
+import run.freshr.domain.auth.dto.response.RefreshTokenResponse;
+import run.freshr.domain.auth.dto.response.SignInResponse;
+import run.freshr.domain.auth.enumerations.Privilege;
+import run.freshr.domain.auth.enumerations.Role;
+
+/**
+ * JIT warm-up
+ *
+ * @author FreshR
+ * @apiNote 트래픽을 받기 전에 로그인, 토큰 갱신에서 사용하는 코드를<br>
+ *          메모리에서만 반복 실행해서 JIT 컴파일을 유도<br>
+ *          - crypto: RSA 키 생성, 암호화, 복호화<br>
+ *          - password: bcrypt 암호화, 비교<br>
+ *          - token: JWT 발급, 검증<br>
+ *          - serialize: 응답 DTO 변환, JSON, CBOR, Smile 직렬화, 역직렬화<br>
+ *          Redis, DB 를 사용하지 않으므로 부작용이 없다.<br>
+ *          Eureka 는 STARTING 상태로 등록하고 warm-up 이 끝나면 UP 으로 변경<br>
+ *          refresh 로 재등록된 뒤의 상태는 {@link WarmUpHealthCheckHandler} 가 UP 으로 유지<br>
+ *          ApplicationRunner 가 끝나야 Readiness 가 ACCEPTING_TRAFFIC 이 되므로<br>
+ *          /readiness 도 warm-up 이 끝날 때까지 준비되지 않은 상태로 응답<br>
+ *          native image 는 JIT 컴파일을 하지 않으므로 반복 실행 없이 UP 으로 변경
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Slf4j
+@Component
+public class JitWarmUp implements ApplicationRunner {
+
+  private static final String PLAIN = "warm-up";
+  private static final String SIGN_ID = "A-AI-WARM-UP";
+
+  private final PasswordEncoder passwordEncoder;
+  private final TokenProvider provider;
+  private final List<AbstractJackson2HttpMessageConverter> converters;
+  private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+  private final ObjectProvider<WarmUpHealthCheckHandler> healthCheckHandler;
+  private final MeterRegistry meterRegistry;
+
+  private final boolean enabled;
+  private final int iterations;
+  private final int cryptoIterations;
+  private final int passwordIterations;
+  private final long timeout;
+
+  /**
+   * 결과 보관
+   *
+   * @apiNote 반복 실행 결과가 사용되지 않아 JIT 가 코드를 제거하지 않도록 보관
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private volatile int sink;
+
+  public JitWarmUp(PasswordEncoder passwordEncoder, TokenProvider provider,
+      List<AbstractJackson2HttpMessageConverter> converters,
+      ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+      ObjectProvider<WarmUpHealthCheckHandler> healthCheckHandler,
+      MeterRegistry meterRegistry,
+      @Value("${freshr.warm-up.enabled:true}") boolean enabled,
+      @Value("${freshr.warm-up.iterations:2000}") int iterations,
+      @Value("${freshr.warm-up.crypto-iterations:50}") int cryptoIterations,
+      @Value("${freshr.warm-up.password-iterations:20}") int passwordIterations,
+      @Value("${freshr.warm-up.timeout:30000}") long timeout) {
+    this.passwordEncoder = passwordEncoder;
+    this.provider = provider;
+    this.converters = converters;
+    this.applicationInfoManager = applicationInfoManager;
+    this.healthCheckHandler = healthCheckHandler;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.iterations = iterations;
+    this.cryptoIterations = cryptoIterations;
+    this.passwordIterations = passwordIterations;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (enabled && !NativeDetector.inNativeImage()) {
+      long start = System.nanoTime();
+      long deadline = start + MILLISECONDS.toNanos(timeout);
+
+      step("crypto", cryptoIterations, deadline, this::crypto);
+      step("password", passwordIterations, deadline, this::password);
+      step("token", iterations, deadline, this::token);
+      step("serialize", iterations, deadline, this::serialize);
+
+      log.info("[WarmUp] completed in {}ms", NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    healthCheckHandler.ifAvailable(WarmUpHealthCheckHandler::ready);
+    applicationInfoManager.ifAvailable(manager ->
+        manager.setInstanceStatus(InstanceStatus.UP));
+  }
+
+  /**
+   * 단계 실행
+   *
+   * @param name       단계 이름
+   * @param iterations 반복 횟수
+   * @param deadline   전체 제한 시각 (nano time)
+   * @param task       단계 처리
+   * @apiNote 제한 시간을 넘으면 남은 반복을 건너뛰고, 실패해도 기동은 계속 진행
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void step(String name, int iterations, long deadline, Runnable task) {
+    long start = System.nanoTime();
+    int count = 0;
+
+    try {
+      while (count < iterations && System.nanoTime() < deadline) {
+        task.run();
+        count++;
+      }
+    } catch (RuntimeException e) {
+      log.warn("[WarmUp] {} failed after {} iterations: {}", name, count, e.getMessage());
+    }
+
+    long elapsed = System.nanoTime() - start;
+
+    Timer.builder("auth.warm-up")
+        .description("기동 warm-up 단계별 처리 시간")
+        .tag("step", name)
+        .register(meterRegistry)
+        .record(elapsed, NANOSECONDS);
+
+    log.info("[WarmUp] {} x{} in {}ms", name, count, NANOSECONDS.toMillis(elapsed));
+  }
+
+  private void crypto() {
+    KeyPair keyPair = CryptoUtil.getKeyPar();
+    String encodePublicKey = CryptoUtil.encodePublicKey(keyPair.getPublic());
+    String encodePrivateKey = CryptoUtil.encodePrivateKey(keyPair.getPrivate());
+    String encrypt = CryptoUtil.encryptRsa(PLAIN, encodePublicKey);
+
+    sink += CryptoUtil.decryptRsa(encrypt, encodePrivateKey).hashCode();
+  }
+
+  private void password() {
+    String encodePassword = passwordEncoder.encode(PLAIN);
+
+    sink += passwordEncoder.matches(PLAIN, encodePassword) ? 1 : 0;
+  }
+
+  private void token() {
+    String accessToken = provider.generateAccessToken(SIGN_ID);
+    String refreshToken = provider.generateRefreshToken(SIGN_ID);
+
+    provider.validateRefreshToken(refreshToken);
+
+    sink += accessToken.length() + refreshToken.length();
+  }
+
+  private void serialize() {
+    AccountResponse account = MapperUtil.map(Account
+        .builder()
+        .id(SIGN_ID)
+        .privilege(Privilege.USER)
+        .status(ACTIVE)
+        .gender(Gender.OTHERS)
+        .username("warm-up@freshr.run")
+        .nickname(PLAIN)
+        .password(PLAIN)
+        .build(), AccountResponse.class);
+
+    account.setSignAt(LocalDateTime.now());
+
+    List<Object> responses = List.of(
+        SignInResponse.builder().accessToken(PLAIN).refreshToken(PLAIN).expiresIn(900L).build(),
+        RefreshTokenResponse.builder().accessToken(PLAIN).expiresIn(900L).build(),
+        IntrospectResponse.builder().active(true).id(SIGN_ID).role(Role.ROLE_USER).build(),
+        account);
+
+    for (AbstractJackson2HttpMessageConverter converter : converters) {
+      ObjectMapper objectMapper = converter.getObjectMapper();
+
+      for (Object response : responses) {
+        try {
+          byte[] bytes = objectMapper.writeValueAsBytes(response);
+
+          sink += objectMapper.readValue(bytes, response.getClass()).hashCode();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+}
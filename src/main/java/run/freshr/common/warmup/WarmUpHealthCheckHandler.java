@@ -0,0 +1,47 @@
+package run.freshr.common.warmup;
+
+import com.netflix.appinfo.HealthCheckHandler;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Eureka 상태 결정
+ *
+ * @author FreshR
+ * @apiNote eureka.instance.initial-status 는 STARTING 이므로 등록할 때마다 STARTING 으로 시작한다.<br>
+ *          refresh (설정 snapshot 동기화, /actuator/refresh) 로 Eureka client 가 다시 생성되어<br>
+ *          재등록되어도 Eureka client 가 등록 직후와 주기적으로 이 handler 로 상태를 다시 계산하므로<br>
+ *          warm-up 이 끝난 뒤라면 UP 으로 돌아간다.<br>
+ *          운영자가 직접 OUT_OF_SERVICE 로 바꾼 상태는 유지<br>
+ *          eureka.client.healthcheck.enabled 가 true 면 Spring health 기반 handler 를 사용
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+@ConditionalOnProperty(name = "eureka.client.healthcheck.enabled", havingValue = "false",
+    matchIfMissing = true)
+public class WarmUpHealthCheckHandler implements HealthCheckHandler {
+
+  private volatile boolean ready;
+
+  /**
+   * Warm-up 완료
+   *
+   * @apiNote 이후 계산하는 상태는 UP
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public void ready() {
+    ready = true;
+  }
+
+  @Override
+  public InstanceStatus getStatus(InstanceStatus currentStatus) {
+    if (currentStatus == InstanceStatus.OUT_OF_SERVICE) {
+      return currentStatus;
+    }
+
+    return ready ? InstanceStatus.UP : InstanceStatus.STARTING;
+  }
+
+}
@@ -17,8 +17,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.limit.ConcurrencyLimit;
+import run.freshr.domain.auth.dto.request.ClientTokenRequest;
 import run.freshr.domain.auth.dto.request.EncryptRequest;
-import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
 import run.freshr.domain.auth.dto.request.SignChangePasswordRequest;
 import run.freshr.domain.auth.dto.request.SignInRequest;
 import run.freshr.domain.auth.dto.request.SignUpdateRequest;
@@ -45,6 +46,7 @@ public class AuthController {
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:26:55
    */
+  @ConcurrencyLimit("crypto")
   @Secured({MANAGER_MAJOR, MANAGER_MINOR, USER, ANONYMOUS})
   @GetMapping(URIConfiguration.uriAuthCrypto)
   public ResponseEntity<?> getPublicKey() {
@@ -71,16 +73,37 @@ public class AuthController {
   /**
    * 로그인
    *
-   * @param dto {@link SignInRequest}
+   * @param request 요청 정보
+   * @param dto     {@link SignInRequest}
    * @return response entity
    * @apiNote 로그인
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:26:55
    */
+  @ConcurrencyLimit("sign-in")
   @Secured(ANONYMOUS)
   @PostMapping(URIConfiguration.uriAuthSignIn)
-  public ResponseEntity<?> signIn(@RequestBody @Valid SignInRequest dto) {
-    return service.signIn(dto);
+  public ResponseEntity<?> signIn(HttpServletRequest request,
+      @RequestBody @Valid SignInRequest dto) {
+    return service.signIn(request, dto);
+  }
+
+  /**
+   * Client 토큰 발급
+   *
+   * @param request 요청 정보
+   * @param dto     {@link ClientTokenRequest}
+   * @return response entity
+   * @apiNote 배치, 내부 서비스용 client credentials 인증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @ConcurrencyLimit("token")
+  @Secured(ANONYMOUS)
+  @PostMapping(URIConfiguration.uriAuthClientToken)
+  public ResponseEntity<?> clientToken(HttpServletRequest request,
+      @RequestBody @Valid ClientTokenRequest dto) {
+    return service.clientToken(request, dto);
   }
 
   /**
@@ -105,6 +128,7 @@ public class AuthController {
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:26:55
    */
+  @ConcurrencyLimit("token")
   @Secured({MANAGER_MAJOR, MANAGER_MINOR, USER})
   @GetMapping(URIConfiguration.uriAuthInfo)
   public ResponseEntity<?> getInfo() {
@@ -155,20 +179,4 @@ public class AuthController {
     return service.withdrawal();
   }
 
-  /**
-   * Access 토큰 갱신
-   *
-   * @param request 요청 정보
-   * @param dto     {@link RefreshTokenRequest}
-   * @return response entity
-   * @apiNote Access 토큰 갱신
-   * @author FreshR
-   * @since 2024. 4. 2. 오후 1:26:55
-   */
-  @PostMapping(URIConfiguration.uriAuthRefresh)
-  public ResponseEntity<?> refreshAccessToken(HttpServletRequest request,
-      @RequestBody @Valid RefreshTokenRequest dto) {
-    return service.refreshAccessToken(request, dto);
-  }
-
 }
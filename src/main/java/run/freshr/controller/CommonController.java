@@ -1,24 +1,31 @@
 package run.freshr.controller;
 
 import static java.lang.System.lineSeparator;
-import static java.nio.file.Files.readAllLines;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
-import static run.freshr.common.utils.RestUtil.getConfig;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static run.freshr.domain.auth.enumerations.Role.Secured.ANONYMOUS;
 import static run.freshr.domain.auth.enumerations.Role.Secured.MANAGER_MAJOR;
 import static run.freshr.domain.auth.enumerations.Role.Secured.MANAGER_MINOR;
 import static run.freshr.domain.auth.enumerations.Role.Secured.USER;
 
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import run.freshr.common.configurations.CustomConfiguration;
 import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.health.ReadinessChecker;
 import run.freshr.common.mappers.EnumMapper;
 import run.freshr.common.utils.RestUtil;
+import run.freshr.domain.common.dto.response.ReadinessResponse;
 
 /**
  * 공통 관리 controller
@@ -32,21 +39,56 @@ import run.freshr.common.utils.RestUtil;
 public class CommonController {
 
   private final EnumMapper enumMapper;
+  private final CustomConfiguration customConfiguration;
+  private final ReadinessChecker readinessChecker;
+
+  private String heartBeat;
+
+  /**
+   * Health check 내용 설정
+   *
+   * @throws IOException io exception
+   * @apiNote Health check 요청마다 파일을 읽지 않도록 기동 시 한 번만 읽어서 보관
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  @PostConstruct
+  public void initHeartBeat() throws IOException {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        customConfiguration.getHeartbeat().getInputStream(), UTF_8))) {
+      heartBeat = reader.lines().collect(joining(lineSeparator()));
+    }
+  }
 
   /**
    * Health check
    *
    * @return heart beat
-   * @throws IOException io exception
    * @apiNote Health check
    * @author FreshR
    * @since 2024. 4. 2. 오전 11:27:50
    */
   @GetMapping(URIConfiguration.uriCommonHeartbeat)
-  public String getHeartBeat() throws IOException {
-    return readAllLines(getConfig().getHeartbeat().getFile().toPath())
-        .stream()
-        .collect(joining(lineSeparator()));
+  public String getHeartBeat() {
+    return heartBeat;
+  }
+
+  /**
+   * Readiness check
+   *
+   * @return readiness
+   * @apiNote {@link ReadinessChecker} 가 background 에서 확인한 결과를 반환<br>
+   *          의존 서비스 중 하나라도 비정상이면 503 으로 응답
+   * @author FreshR
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  @GetMapping(URIConfiguration.uriCommonReadiness)
+  public ResponseEntity<ReadinessResponse> getReadiness() {
+    ReadinessResponse readiness = readinessChecker.getReadiness();
+
+    return ResponseEntity
+        .status(readiness.getReady() ? OK : SERVICE_UNAVAILABLE)
+        .body(readiness);
   }
 
   //  _______ .__   __.  __    __  .___  ___.
@@ -0,0 +1,65 @@
+package run.freshr.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.limit.ConcurrencyLimit;
+import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
+import run.freshr.service.ReactiveAuthService;
+
+/**
+ * 토큰 관리 reactive controller
+ *
+ * @author FreshR
+ * @apiNote reactive profile 에서 {@link TokenController} 대신 사용<br>
+ *          Mono 를 반환해서 Redis 응답을 기다리는 동안 요청 thread 를 반환
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTokenController {
+
+  private final ReactiveAuthService service;
+
+  /**
+   * Access 토큰 갱신
+   *
+   * @param request 요청 정보
+   * @param dto     {@link RefreshTokenRequest}
+   * @return response entity
+   * @apiNote Access 토큰 갱신
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @ConcurrencyLimit("token")
+  @PostMapping(URIConfiguration.uriAuthRefresh)
+  public Mono<ResponseEntity<?>> refreshAccessToken(HttpServletRequest request,
+      @RequestBody @Valid RefreshTokenRequest dto) {
+    return service.refreshAccessToken(request, dto);
+  }
+
+  /**
+   * Access 토큰 검증
+   *
+   * @param request 요청 정보
+   * @return introspect
+   * @apiNote Access 토큰 검증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @ConcurrencyLimit("token")
+  @GetMapping(URIConfiguration.uriAuthIntrospect)
+  public Mono<ResponseEntity<?>> introspect(HttpServletRequest request) {
+    return service.introspect(request);
+  }
+
+}
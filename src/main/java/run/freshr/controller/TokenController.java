@@ -0,0 +1,64 @@
+package run.freshr.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.limit.ConcurrencyLimit;
+import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
+import run.freshr.service.AuthService;
+
+/**
+ * 토큰 관리 controller
+ *
+ * @author FreshR
+ * @apiNote 토큰 갱신, 검증 controller<br>
+ *          reactive profile 에서는 {@link ReactiveTokenController} 를 사용
+ * @since 2024. 4. 2. 오후 1:26:55
+ */
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TokenController {
+
+  private final AuthService service;
+
+  /**
+   * Access 토큰 갱신
+   *
+   * @param request 요청 정보
+   * @param dto     {@link RefreshTokenRequest}
+   * @return response entity
+   * @apiNote Access 토큰 갱신
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @ConcurrencyLimit("token")
+  @PostMapping(URIConfiguration.uriAuthRefresh)
+  public ResponseEntity<?> refreshAccessToken(HttpServletRequest request,
+      @RequestBody @Valid RefreshTokenRequest dto) {
+    return service.refreshAccessToken(request, dto);
+  }
+
+  /**
+   * Access 토큰 검증
+   *
+   * @param request 요청 정보
+   * @return introspect
+   * @apiNote Access 토큰 검증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  @ConcurrencyLimit("token")
+  @GetMapping(URIConfiguration.uriAuthIntrospect)
+  public ResponseEntity<?> introspect(HttpServletRequest request) {
+    return service.introspect(request);
+  }
+
+}
@@ -0,0 +1,40 @@
+package run.freshr.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Client 토큰 발급 request DTO
+ *
+ * @author FreshR
+ * @apiNote Client 토큰 발급 request DTO
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientTokenRequest {
+
+  /**
+   * Client 아이디
+   *
+   * @apiNote Client 아이디
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @NotEmpty
+  private String clientId;
+
+  /**
+   * Client secret
+   *
+   * @apiNote Client secret
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @NotEmpty
+  private String clientSecret;
+
+}
@@ -0,0 +1,37 @@
+package run.freshr.domain.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Client 토큰 발급 response DTO
+ *
+ * @author FreshR
+ * @apiNote Client 토큰 발급 response DTO
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientTokenResponse {
+
+  /**
+   * Access 토큰
+   *
+   * @apiNote Access 토큰
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private String accessToken;
+
+  /**
+   * Access 토큰 남은 시간 (초)
+   *
+   * @apiNote 이 시간이 지나기 전에 다시 요청하면 같은 토큰을 반환할 수 있다.
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Long expiresIn;
+
+}
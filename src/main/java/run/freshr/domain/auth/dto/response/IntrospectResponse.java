@@ -0,0 +1,55 @@
+package run.freshr.domain.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import run.freshr.domain.auth.enumerations.Role;
+
+/**
+ * Access 토큰 검증 response DTO
+ *
+ * @author FreshR
+ * @apiNote Access 토큰 검증 response DTO<br>
+ *          유효하지 않은 토큰이면 active 만 false 로 반환
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectResponse {
+
+  /**
+   * 유효 여부
+   *
+   * @apiNote 유효 여부
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Boolean active;
+
+  /**
+   * 계정 일련 번호
+   *
+   * @apiNote Client 토큰이면 null
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private String id;
+
+  /**
+   * Client 아이디
+   *
+   * @apiNote Client credentials 로 발급한 토큰에만 반환
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private String clientId;
+
+  /**
+   * 권한
+   *
+   * @apiNote 권한
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Role role;
+
+}
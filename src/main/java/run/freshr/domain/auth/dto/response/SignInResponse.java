@@ -34,4 +34,12 @@ public class SignInResponse {
    */
   private String refreshToken;
 
+  /**
+   * Access 토큰 유효 시간 (초)
+   *
+   * @apiNote 이 시간이 지나기 전에 갱신하도록 권장하는 시간. 실제 만료 시간 이하
+   * @since 2024. 4. 2. 오후 1:26:55
+   */
+  private Long expiresIn;
+
 }
@@ -0,0 +1,62 @@
+package run.freshr.domain.common.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Readiness 상태 response DTO
+ *
+ * @author FreshR
+ * @apiNote Readiness 상태 response DTO
+ * @since 2024. 4. 2. 오전 11:27:50
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadinessResponse {
+
+  /**
+   * 요청 처리 가능 여부
+   *
+   * @apiNote 기동이 끝나고 모든 의존 서비스가 정상일 때 true
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private Boolean ready;
+
+  /**
+   * 기동 완료 여부
+   *
+   * @apiNote warm-up 을 포함한 기동 절차가 끝났는지 여부
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private Boolean started;
+
+  /**
+   * Postgres 상태
+   *
+   * @apiNote Postgres 상태
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private Boolean postgres;
+
+  /**
+   * Redis 상태
+   *
+   * @apiNote Redis 상태
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private Boolean redis;
+
+  /**
+   * 마지막 확인 날짜 시간
+   *
+   * @apiNote 마지막 확인 날짜 시간
+   * @since 2024. 4. 2. 오전 11:27:50
+   */
+  private LocalDateTime checkAt;
+
+}
@@ -0,0 +1,70 @@
+package run.freshr.domain.common.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SQL 추적 response DTO
+ *
+ * @author FreshR
+ * @apiNote SQL 추적 response DTO
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlTraceResponse {
+
+  /**
+   * 기록 순번
+   *
+   * @apiNote 기록 순번
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Long sequence;
+
+  /**
+   * 실행 SQL
+   *
+   * @apiNote 파라미터 값은 포함하지 않는다.
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private String sql;
+
+  /**
+   * 실행 시간 (µs)
+   *
+   * @apiNote 실행 시간 (µs)
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Long elapsed;
+
+  /**
+   * 느린 SQL 여부
+   *
+   * @apiNote 기준 시간을 넘었으면 true, 표본으로 기록되었으면 false
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Boolean slow;
+
+  /**
+   * 오류 내용
+   *
+   * @apiNote 오류 내용
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private String error;
+
+  /**
+   * 실행 날짜 시간
+   *
+   * @apiNote 실행 날짜 시간
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private LocalDateTime executeAt;
+
+}
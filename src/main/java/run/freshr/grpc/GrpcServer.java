@@ -0,0 +1,112 @@
+package run.freshr.grpc;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC server
+ *
+ * @author FreshR
+ * @apiNote web 서버와 같은 process 에서 별도 port 로 gRPC service 를 제공<br>
+ *          Redis 조회가 blocking 이므로 freshr.grpc.threads 크기의 전용 thread pool 에서 처리<br>
+ *          freshr.grpc.port 가 0 이면 빈 port 를 사용
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "freshr.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+  private final TokenValidationGrpcService tokenValidationGrpcService;
+  private final int port;
+  private final int threads;
+
+  private Server server;
+  private ExecutorService executorService;
+
+  public GrpcServer(TokenValidationGrpcService tokenValidationGrpcService,
+      @Value("${freshr.grpc.port:0}") int port,
+      @Value("${freshr.grpc.threads:16}") int threads) {
+    this.tokenValidationGrpcService = tokenValidationGrpcService;
+    this.port = port;
+    this.threads = threads;
+  }
+
+  @Override
+  public void start() {
+    AtomicInteger sequence = new AtomicInteger();
+
+    executorService = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "grpc-executor-" + sequence.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    });
+
+    try {
+      server = NettyServerBuilder.forPort(port)
+          .executor(executorService)
+          .addService(tokenValidationGrpcService)
+          .build()
+          .start();
+    } catch (IOException e) {
+      executorService.shutdown();
+
+      throw new UncheckedIOException(e);
+    }
+
+    log.info("[gRPC] server started on port {}", server.getPort());
+  }
+
+  @Override
+  public void stop() {
+    if (server == null) {
+      return;
+    }
+
+    server.shutdown();
+
+    try {
+      if (!server.awaitTermination(10, SECONDS)) {
+        server.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      server.shutdownNow();
+      Thread.currentThread().interrupt();
+    } finally {
+      executorService.shutdown();
+      server = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null && !server.isShutdown();
+  }
+
+  /**
+   * 사용 중인 port 조회
+   *
+   * @return port
+   * @apiNote freshr.grpc.port 가 0 일 때 실제로 사용 중인 port 확인용
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  public int getPort() {
+    return server.getPort();
+  }
+
+}
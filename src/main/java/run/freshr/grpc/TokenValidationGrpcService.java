@@ -0,0 +1,113 @@
+package run.freshr.grpc;
+
+import static org.springframework.util.StringUtils.hasLength;
+import static run.freshr.common.metrics.AuthMetrics.INTROSPECT;
+
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import run.freshr.common.client.ClientTokenStore;
+import run.freshr.common.metrics.AuthMetrics;
+import run.freshr.domain.auth.redis.AccessRedis;
+import run.freshr.domain.auth.unit.redis.AccessRedisUnit;
+import run.freshr.grpc.proto.TokenValidationGrpc;
+import run.freshr.grpc.proto.ValidateTokenRequest;
+import run.freshr.grpc.proto.ValidateTokenResponse;
+
+/**
+ * Access 토큰 검증 gRPC service
+ *
+ * @author FreshR
+ * @apiNote GET /introspect 와 같이 Redis 에 저장된 Access 토큰 정보로 검증<br>
+ *          gateway 를 거치지 않는 내부 서비스 전용
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenValidationGrpcService extends TokenValidationGrpc.TokenValidationImplBase {
+
+  private final AccessRedisUnit accessRedisUnit;
+  private final AuthMetrics authMetrics;
+
+  /**
+   * 토큰 검증
+   *
+   * @param request          {@link ValidateTokenRequest}
+   * @param responseObserver 응답
+   * @apiNote 토큰 하나 검증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public void validateToken(ValidateTokenRequest request,
+      StreamObserver<ValidateTokenResponse> responseObserver) {
+    responseObserver.onNext(validate(request.getAccessToken()));
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * 토큰 검증 stream
+   *
+   * @param responseObserver 응답
+   * @return 요청
+   * @apiNote 요청을 받을 때마다 검증 결과를 반환하고, 요청이 끝나면 응답도 종료
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public StreamObserver<ValidateTokenRequest> validateTokenStream(
+      StreamObserver<ValidateTokenResponse> responseObserver) {
+    return new StreamObserver<>() {
+      @Override
+      public void onNext(ValidateTokenRequest request) {
+        responseObserver.onNext(validate(request.getAccessToken()));
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        responseObserver.onError(throwable);
+      }
+
+      @Override
+      public void onCompleted() {
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
+  /**
+   * 검증
+   *
+   * @param accessToken Access 토큰
+   * @return validate token response
+   * @apiNote 유효하지 않은 토큰이면 active 만 false 로 반환<br>
+   *          Client 토큰은 id 대신 client_id 를 설정
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private ValidateTokenResponse validate(String accessToken) {
+    ValidateTokenResponse.Builder builder = ValidateTokenResponse.newBuilder()
+        .setAccessToken(accessToken);
+    AccessRedis access = hasLength(accessToken)
+        ? authMetrics.phase(INTROSPECT, "grpc-redis-read", () -> accessRedisUnit.get(accessToken))
+        : null;
+
+    if (access == null) {
+      return builder.setActive(false).build();
+    }
+
+    String signId = access.getSignId();
+
+    if (ClientTokenStore.isClient(signId)) {
+      builder.setClientId(ClientTokenStore.clientId(signId));
+    } else {
+      builder.setId(signId);
+    }
+
+    return builder
+        .setActive(true)
+        .setRole(access.getRole().name())
+        .build();
+  }
+
+}
@@ -2,6 +2,7 @@ package run.freshr.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
+import run.freshr.domain.auth.dto.request.ClientTokenRequest;
 import run.freshr.domain.auth.dto.request.EncryptRequest;
 import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
 import run.freshr.domain.auth.dto.request.SignChangePasswordRequest;
@@ -43,13 +44,26 @@ public interface AuthService {
   /**
    * 로그인
    *
-   * @param dto {@link SignInRequest}
+   * @param request 요청 정보
+   * @param dto     {@link SignInRequest}
    * @return response entity
    * @apiNote 로그인
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:06:17
    */
-  ResponseEntity<?> signIn(SignInRequest dto);
+  ResponseEntity<?> signIn(HttpServletRequest request, SignInRequest dto);
+
+  /**
+   * Client 토큰 발급
+   *
+   * @param request 요청 정보
+   * @param dto     {@link ClientTokenRequest}
+   * @return response entity
+   * @apiNote 서비스 계정 client credentials 인증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  ResponseEntity<?> clientToken(HttpServletRequest request, ClientTokenRequest dto);
 
   /**
    * 로그아웃
@@ -115,4 +129,15 @@ public interface AuthService {
    */
   ResponseEntity<?> refreshAccessToken(HttpServletRequest request, RefreshTokenRequest dto);
 
+  /**
+   * Access 토큰 검증
+   *
+   * @param request 요청 정보
+   * @return introspect
+   * @apiNote Access 토큰 검증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  ResponseEntity<?> introspect(HttpServletRequest request);
+
 }
@@ -1,5 +1,26 @@
 package run.freshr.service;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.util.StringUtils.hasLength;
+import static run.freshr.common.audit.AuthAuditType.REFRESH_EXPIRED;
+import static run.freshr.common.audit.AuthAuditType.REFRESH_THEFT;
+import static run.freshr.common.audit.AuthAuditType.SIGN_IN_BLOCKED;
+import static run.freshr.common.audit.AuthAuditType.SIGN_IN_FAILURE;
+import static run.freshr.common.audit.AuthAuditType.SIGN_OUT;
+import static run.freshr.common.audit.AuthAuditType.WITHDRAWAL;
+import static run.freshr.common.metrics.AuthMetrics.CHANGE_PASSWORD;
+import static run.freshr.common.metrics.AuthMetrics.CLIENT_TOKEN;
+import static run.freshr.common.metrics.AuthMetrics.ENCRYPT;
+import static run.freshr.common.metrics.AuthMetrics.INTROSPECT;
+import static run.freshr.common.metrics.AuthMetrics.PUBLIC_KEY;
+import static run.freshr.common.metrics.AuthMetrics.REFRESH;
+import static run.freshr.common.metrics.AuthMetrics.SIGN_IN;
+import static run.freshr.common.metrics.AuthMetrics.UPDATE_INFO;
+import static run.freshr.common.throttle.SignInThrottle.TYPE_CLIENT;
+import static run.freshr.common.throttle.SignInThrottle.TYPE_IP;
+import static run.freshr.common.throttle.SignInThrottle.TYPE_USERNAME;
 import static run.freshr.common.utils.CryptoUtil.decryptRsa;
 import static run.freshr.common.utils.CryptoUtil.encryptRsa;
 import static run.freshr.common.utils.MapperUtil.map;
@@ -10,25 +31,41 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import run.freshr.common.audit.AuthAudit;
+import run.freshr.common.audit.AuthAuditType;
+import run.freshr.common.client.ClientCredentialsProperties;
+import run.freshr.common.client.ClientSecretHasher;
+import run.freshr.common.client.ClientTokenStore;
+import run.freshr.common.client.ClientTokenStore.ClientToken;
+import run.freshr.common.concurrent.AuthExecutor;
+import run.freshr.common.concurrent.TaskScope;
 import run.freshr.common.data.EntityData;
 import run.freshr.common.data.ExceptionData;
 import run.freshr.common.dto.response.KeyResponse;
+import run.freshr.common.metrics.AuthMetrics;
+import run.freshr.common.security.AccessTokenLifetime;
 import run.freshr.common.security.TokenProvider;
+import run.freshr.common.throttle.SignInThrottle;
+import run.freshr.common.throttle.UsernameFilter;
 import run.freshr.common.utils.CryptoUtil;
 import run.freshr.common.utils.RestUtil;
 import run.freshr.domain.account.entity.Account;
+import run.freshr.domain.auth.dto.request.ClientTokenRequest;
 import run.freshr.domain.auth.dto.request.EncryptRequest;
 import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
 import run.freshr.domain.auth.dto.request.SignChangePasswordRequest;
 import run.freshr.domain.auth.dto.request.SignInRequest;
 import run.freshr.domain.auth.dto.request.SignUpdateRequest;
 import run.freshr.domain.auth.dto.response.AccountResponse;
+import run.freshr.domain.auth.dto.response.ClientTokenResponse;
 import run.freshr.domain.auth.dto.response.EncryptResponse;
+import run.freshr.domain.auth.dto.response.IntrospectResponse;
 import run.freshr.domain.auth.dto.response.RefreshTokenResponse;
 import run.freshr.domain.auth.dto.response.SignInResponse;
 import run.freshr.domain.auth.enumerations.Role;
@@ -59,10 +96,20 @@ public class AuthServiceImpl implements AuthService {
   private final RsaPairUnit rsaPairUnit;
 
   private final TokenProvider provider;
+  private final AccessTokenLifetime accessTokenLifetime;
   private final PasswordEncoder passwordEncoder;
 
   private final EntityData entityData;
 
+  private final AuthMetrics authMetrics;
+  private final SignInThrottle signInThrottle;
+  private final UsernameFilter usernameFilter;
+  private final AuthExecutor authExecutor;
+  private final AuthAudit authAudit;
+  private final ClientCredentialsProperties clientCredentials;
+  private final ClientSecretHasher clientSecretHasher;
+  private final ClientTokenStore clientTokenStore;
+
   /**
    * RSA 공개키 조회
    *
@@ -74,7 +121,7 @@ public class AuthServiceImpl implements AuthService {
   @Override
   @Transactional
   public ResponseEntity<?> getPublicKey() {
-    KeyPair keyPar = CryptoUtil.getKeyPar();
+    KeyPair keyPar = authMetrics.phase(PUBLIC_KEY, "rsa-generate", CryptoUtil::getKeyPar);
     PublicKey publicKey = keyPar.getPublic();
     PrivateKey privateKey = keyPar.getPrivate();
     String encodePublicKey = CryptoUtil.encodePublicKey(publicKey);
@@ -102,7 +149,8 @@ public class AuthServiceImpl implements AuthService {
    */
   @Override
   public ResponseEntity<?> getEncryptRsa(EncryptRequest dto) {
-    String encrypt = encryptRsa(dto.getPlain(), dto.getRsa());
+    String encrypt = authMetrics.phase(ENCRYPT, "encrypt", () ->
+        encryptRsa(dto.getPlain(), dto.getRsa()));
 
     return RestUtil.ok(EncryptResponse.builder().encrypt(encrypt).build());
   }
@@ -110,7 +158,8 @@ public class AuthServiceImpl implements AuthService {
   /**
    * 로그인
    *
-   * @param dto {@link SignInRequest}
+   * @param request 요청 정보
+   * @param dto     {@link SignInRequest}
    * @return response entity
    * @apiNote 로그인
    * @author FreshR
@@ -118,76 +167,297 @@ public class AuthServiceImpl implements AuthService {
    */
   @Override
   @Transactional
-  public ResponseEntity<?> signIn(SignInRequest dto) {
+  public ResponseEntity<?> signIn(HttpServletRequest request, SignInRequest dto) {
+    return authMetrics.operation(SIGN_IN, () -> {
+      try (TaskScope scope = authExecutor.scope()) {
+        return processSignIn(request, dto, scope);
+      }
+    });
+  }
+
+  /**
+   * 로그인 처리
+   *
+   * @param request 요청 정보
+   * @param dto     {@link SignInRequest}
+   * @param scope   병렬 처리 범위
+   * @return response entity
+   * @apiNote 단계별 처리 시간을 {@link AuthMetrics} 로 기록<br>
+   *          실패가 누적된 IP 는 복호화 전에, 아이디는 계정 조회와 비밀번호 검증 전에 차단<br>
+   *          비밀번호 복호화는 아이디 차단, 존재 여부 체크를 통과한 뒤에 시작해서 계정 조회와 병렬로 처리
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private ResponseEntity<?> processSignIn(HttpServletRequest request, SignInRequest dto,
+      TaskScope scope) {
+    String ip = SignInThrottle.getClientIp(request);
+
+    // IP 차단 여부 체크
+    long ipBlock = authMetrics.phase(SIGN_IN, "throttle", () ->
+        signInThrottle.check(TYPE_IP, ip));
+
+    if (ipBlock > 0) {
+      authAudit.record(SIGN_IN_BLOCKED, null, null, TYPE_IP);
+
+      return tooManyRequests(ipBlock);
+    }
+
     Long rsaTtl = entityData.getRsaTtl();
     String encodePublicKey = dto.getRsa();
 
     // RSA 유효 기간 체크
-    if (!rsaPairUnit.checkRsa(encodePublicKey, rsaTtl)) {
+    RsaPair redis = authMetrics.phase(SIGN_IN, "rsa", () ->
+        rsaPairUnit.checkRsa(encodePublicKey, rsaTtl) ? rsaPairUnit.get(encodePublicKey) : null);
+
+    if (redis == null) {
       return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
     }
 
-    RsaPair redis = rsaPairUnit.get(encodePublicKey);
     String encodePrivateKey = redis.getPrivateKey();
-    String username = decryptRsa(dto.getUsername(), encodePrivateKey);
+    String username = authMetrics.phase(SIGN_IN, "decrypt-username", () ->
+        decryptRsa(dto.getUsername(), encodePrivateKey));
+
+    // 아이디 차단 여부 체크
+    long usernameBlock = authMetrics.phase(SIGN_IN, "throttle", () ->
+        signInThrottle.check(TYPE_USERNAME, username));
+
+    if (usernameBlock > 0) {
+      authAudit.record(SIGN_IN_BLOCKED, null, username, TYPE_USERNAME);
+
+      return tooManyRequests(usernameBlock);
+    }
+
+    // 존재하지 않는 것이 확실한 아이디는 DB 조회 없이 거절
+    if (!usernameFilter.mightContain(username)) {
+      usernameFilter.reject();
+      signInFailure(ip, username, null, "not-found");
 
-    // 요청 정보로 데이터가 있는지 체크
-    if (!accountAuthUnit.existsByUsername(username)) {
       return RestUtil.error(RestUtil.getExceptions().getEntityNotFound());
     }
 
-    Account entity = accountAuthUnit.getByUsername(username);
+    // 차단, 존재 여부 체크를 통과한 뒤에만 비밀번호를 복호화. 계정 조회와 병렬로 처리
+    CompletableFuture<String> passwordTask = scope.fork(() ->
+        authMetrics.phase(SIGN_IN, "decrypt-password", () ->
+            decryptRsa(dto.getPassword(), encodePrivateKey)));
+
+    // 요청 정보로 데이터가 있는지 체크
+    // 거절 대기 시간은 없는 아이디의 조회와 같은 존재 여부 조회 시간만으로 계산
+    long lookupStart = System.nanoTime();
+    boolean exists = authMetrics.phase(SIGN_IN, "account", () ->
+        accountAuthUnit.existsByUsername(username));
+
+    usernameFilter.observeLookup(System.nanoTime() - lookupStart);
+
+    Account entity = exists
+        ? authMetrics.phase(SIGN_IN, "account", () -> accountAuthUnit.getByUsername(username))
+        : null;
+
+    if (entity == null) {
+      signInFailure(ip, username, null, "not-found");
+
+      return RestUtil.error(RestUtil.getExceptions().getEntityNotFound());
+    }
 
     // 탈퇴 여부 체크
     if (entity.getDeleteFlag()) {
+      authAudit.record(SIGN_IN_FAILURE, entity.getId(), username, "withdrawn");
+
       return RestUtil.error(RestUtil.getExceptions().getEntityNotFound());
     }
 
     // 활성 여부 체크
     if (!entity.getUseFlag()) {
+      authAudit.record(SIGN_IN_FAILURE, entity.getId(), username, "disabled");
+
       return RestUtil.error(RestUtil.getExceptions().getUnAuthenticated());
     }
 
+    String password = scope.join(passwordTask);
+
     /// 비밀번호 체크
-    if (!passwordEncoder
-        .matches(decryptRsa(dto.getPassword(), encodePrivateKey), entity.getPassword())) {
+    if (!authMetrics.phase(SIGN_IN, "password", () ->
+        passwordEncoder.matches(password, entity.getPassword()))) {
+      signInFailure(ip, username, entity.getId(), "password");
+
       return RestUtil.error(RestUtil.getExceptions().getUnAuthenticated());
     }
 
+    authMetrics.phase(SIGN_IN, "throttle", () ->
+        signInThrottle.success(TYPE_USERNAME, username));
+
     entity.signed();
 
     String id = entity.getId();
 
     // 토큰 발급
-    String accessToken = provider.generateAccessToken(id);
-    String refreshToken = provider.generateRefreshToken(id);
+    String accessToken = authMetrics.phase(SIGN_IN, "token", () ->
+        provider.generateAccessToken(id));
+    String refreshToken = authMetrics.phase(SIGN_IN, "token", () ->
+        provider.generateRefreshToken(id));
 
     // 토큰 정보를 Redis 에 저장
-    accessRedisUnit.save(AccessRedis.builder()
-        .id(accessToken)
-        .signId(id)
-        .role(entity.getPrivilege().getRole())
-        .build());
-    refreshRedisUnit.save(RefreshRedis.builder()
-        .id(refreshToken)
-        .access(accessRedisUnit.get(accessToken))
-        .build());
+    authMetrics.phase(SIGN_IN, "redis-write", () -> {
+      accessRedisUnit.save(AccessRedis.builder()
+          .id(accessToken)
+          .signId(id)
+          .role(entity.getPrivilege().getRole())
+          .build());
+      refreshRedisUnit.save(RefreshRedis.builder()
+          .id(refreshToken)
+          .access(accessRedisUnit.get(accessToken))
+          .build());
+    });
 
     SignInResponse response = SignInResponse.builder()
         .accessToken(accessToken)
         .refreshToken(refreshToken)
+        .expiresIn(accessTokenLifetime.next())
         .build();
 
-    rsaPairUnit.delete(encodePublicKey);
+    authMetrics.phase(SIGN_IN, "redis-write", () -> rsaPairUnit.delete(encodePublicKey));
+
+    authAudit.record(AuthAuditType.SIGN_IN, id, null, null);
 
     return RestUtil.ok(response);
   }
 
+  /**
+   * 로그인 실패 기록
+   *
+   * @param ip        client ip
+   * @param username  아이디
+   * @param accountId 계정 일련 번호, 계정이 없으면 null
+   * @param reason    실패 사유
+   * @apiNote IP, 아이디 모두 실패 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void signInFailure(String ip, String username, String accountId, String reason) {
+    authMetrics.phase(SIGN_IN, "throttle", () -> {
+      signInThrottle.failure(TYPE_IP, ip);
+      signInThrottle.failure(TYPE_USERNAME, username);
+    });
+
+    authAudit.record(SIGN_IN_FAILURE, accountId, username, reason);
+  }
+
+  /**
+   * 로그인 차단 응답
+   *
+   * @param remain 남은 차단 시간 (ms)
+   * @return response entity
+   * @apiNote 429 와 Retry-After header 로 응답
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private ResponseEntity<?> tooManyRequests(long remain) {
+    return ResponseEntity
+        .status(TOO_MANY_REQUESTS)
+        .header(RETRY_AFTER, String.valueOf(MILLISECONDS.toSeconds(remain + 999)))
+        .build();
+  }
+
+  /**
+   * Client 토큰 발급
+   *
+   * @param request 요청 정보
+   * @param dto     {@link ClientTokenRequest}
+   * @return response entity
+   * @apiNote RSA, bcrypt 없이 keyed hash 로 client secret 을 검증<br>
+   *          마지막으로 발급한 토큰의 남은 시간이 min-remaining 이상이면 새로 발급하지 않고 재사용<br>
+   *          실패는 로그인과 같은 IP 와 client 아이디 ({@link SignInThrottle#TYPE_CLIENT}) 기준으로 차단<br>
+   *          Access 토큰 정보와 감사 이벤트는 계정 일련 번호와 겹치지 않도록<br>
+   *          {@link ClientTokenStore#subject(String)} 로 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public ResponseEntity<?> clientToken(HttpServletRequest request, ClientTokenRequest dto) {
+    return authMetrics.operation(CLIENT_TOKEN, () -> processClientToken(request, dto));
+  }
+
+  /**
+   * Client 토큰 발급 처리
+   *
+   * @param request 요청 정보
+   * @param dto     {@link ClientTokenRequest}
+   * @return response entity
+   * @apiNote 단계별 처리 시간을 {@link AuthMetrics} 로 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private ResponseEntity<?> processClientToken(HttpServletRequest request,
+      ClientTokenRequest dto) {
+    String ip = SignInThrottle.getClientIp(request);
+    String clientId = dto.getClientId();
+    String subject = ClientTokenStore.subject(clientId);
+
+    long block = authMetrics.phase(CLIENT_TOKEN, "throttle", () ->
+        Math.max(signInThrottle.check(TYPE_IP, ip),
+            signInThrottle.check(TYPE_CLIENT, clientId)));
+
+    if (block > 0) {
+      authAudit.record(SIGN_IN_BLOCKED, subject, null, "client-credentials");
+
+      return tooManyRequests(block);
+    }
+
+    ClientCredentialsProperties.Client client = clientCredentials.getClients().get(clientId);
+
+    // 없는 client 도 같은 계산을 거친 뒤 거절
+    boolean matches = authMetrics.phase(CLIENT_TOKEN, "secret", () ->
+        clientSecretHasher.matches(dto.getClientSecret(),
+            client == null ? null : client.getSecret()));
+
+    if (!matches) {
+      authMetrics.phase(CLIENT_TOKEN, "throttle", () -> {
+        signInThrottle.failure(TYPE_IP, ip);
+        signInThrottle.failure(TYPE_CLIENT, clientId);
+      });
+
+      authAudit.record(SIGN_IN_FAILURE, subject, null, "client-secret");
+
+      return RestUtil.error(RestUtil.getExceptions().getUnAuthenticated());
+    }
+
+    authMetrics.phase(CLIENT_TOKEN, "throttle", () ->
+        signInThrottle.success(TYPE_CLIENT, clientId));
+
+    // 남은 시간이 충분한 토큰이 있으면 재사용
+    ClientToken token = authMetrics.phase(CLIENT_TOKEN, "redis-read", () ->
+        clientTokenStore.find(clientId, clientCredentials.getMinRemaining(),
+            accessToken -> accessRedisUnit.get(accessToken) != null));
+
+    if (token == null) {
+      String accessToken = authMetrics.phase(CLIENT_TOKEN, "token", () ->
+          provider.generateAccessToken(subject));
+
+      token = authMetrics.phase(CLIENT_TOKEN, "redis-write", () -> {
+        accessRedisUnit.save(AccessRedis.builder()
+            .id(accessToken)
+            .signId(subject)
+            .role(client.getRole())
+            .build());
+
+        return clientTokenStore.save(clientId, accessToken,
+            accessTokenLifetime.getExpiration());
+      });
+
+      authAudit.record(AuthAuditType.SIGN_IN, subject, null, "client-credentials");
+    }
+
+    return RestUtil.ok(ClientTokenResponse
+        .builder()
+        .accessToken(token.getAccessToken())
+        .expiresIn(token.getExpiresIn())
+        .build());
+  }
+
   /**
    * 로그아웃
    *
    * @return response entity
-   * @apiNote 로그아웃
+   * @apiNote Client 토큰은 계정이 없으므로 거절
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:06:17
    */
@@ -196,11 +466,17 @@ public class AuthServiceImpl implements AuthService {
   public ResponseEntity<?> signOut() {
     String signedId = RestUtil.getSignedId();
 
+    if (ClientTokenStore.isClient(signedId)) {
+      return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
+    }
+
     AccessRedis accessRedis = accessRedisUnit.getBySignId(signedId);
 
     refreshRedisUnit.delete(accessRedis);
     accessRedisUnit.deleteBySignId(signedId);
 
+    authAudit.record(SIGN_OUT, signedId, null, null);
+
     return RestUtil.ok();
   }
 
@@ -208,12 +484,16 @@ public class AuthServiceImpl implements AuthService {
    * 내 정보 조회
    *
    * @return info
-   * @apiNote 내 정보 조회
+   * @apiNote Client 토큰은 계정이 없으므로 거절
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:06:17
    */
   @Override
   public ResponseEntity<?> getInfo() {
+    if (ClientTokenStore.isClient(RestUtil.getSignedId())) {
+      return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
+    }
+
     return RestUtil.ok(map(RestUtil.getSigned(), AccountResponse.class));
   }
 
@@ -222,44 +502,87 @@ public class AuthServiceImpl implements AuthService {
    *
    * @param dto {@link SignChangePasswordRequest}
    * @return response entity
-   * @apiNote 비밀번호 변경
+   * @apiNote Client 토큰은 계정이 없으므로 거절
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:06:17
    */
   @Override
   @Transactional
   public ResponseEntity<?> changePassword(SignChangePasswordRequest dto) {
+    if (ClientTokenStore.isClient(RestUtil.getSignedId())) {
+      return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
+    }
+
+    return authMetrics.operation(CHANGE_PASSWORD, () -> {
+      try (TaskScope scope = authExecutor.scope()) {
+        return processChangePassword(dto, scope);
+      }
+    });
+  }
+
+  /**
+   * 비밀번호 변경 처리
+   *
+   * @param dto   {@link SignChangePasswordRequest}
+   * @param scope 병렬 처리 범위
+   * @return response entity
+   * @apiNote 단계별 처리 시간을 {@link AuthMetrics} 로 기록<br>
+   *          두 비밀번호 복호화는 계정 조회와 병렬로,<br>
+   *          변경할 비밀번호의 현재, 이전 비밀번호 비교는 서로 병렬로 처리
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private ResponseEntity<?> processChangePassword(SignChangePasswordRequest dto,
+      TaskScope scope) {
     Long rsaTtl = entityData.getRsaTtl();
     String encodePublicKey = dto.getRsa();
 
     // RSA 유효 기간 체크
-    if (!rsaPairUnit.checkRsa(encodePublicKey, rsaTtl)) {
+    RsaPair redis = authMetrics.phase(CHANGE_PASSWORD, "rsa", () ->
+        rsaPairUnit.checkRsa(encodePublicKey, rsaTtl) ? rsaPairUnit.get(encodePublicKey) : null);
+
+    if (redis == null) {
       return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
     }
 
-    RsaPair redis = rsaPairUnit.get(encodePublicKey);
     String encodePrivateKey = redis.getPrivateKey();
-    Account entity = accountAuthUnit.get(RestUtil.getSignedId());
+    CompletableFuture<String> originPasswordTask = scope.fork(() ->
+        authMetrics.phase(CHANGE_PASSWORD, "decrypt-password", () ->
+            decryptRsa(dto.getOriginPassword(), encodePrivateKey)));
+    CompletableFuture<String> passwordTask = scope.fork(() ->
+        authMetrics.phase(CHANGE_PASSWORD, "decrypt-password", () ->
+            decryptRsa(dto.getPassword(), encodePrivateKey)));
+    Account entity = authMetrics.phase(CHANGE_PASSWORD, "account", () ->
+        accountAuthUnit.get(RestUtil.getSignedId()));
     ExceptionData unAuthenticated = RestUtil.getExceptions().getUnAuthenticated();
+    String originPassword = scope.join(originPasswordTask);
 
     // 변경 전 비밀번호 체크
-    if (!passwordEncoder
-        .matches(decryptRsa(dto.getOriginPassword(), encodePrivateKey), entity.getPassword())) {
+    if (!authMetrics.phase(CHANGE_PASSWORD, "password", () ->
+        passwordEncoder.matches(originPassword, entity.getPassword()))) {
       return RestUtil.error(unAuthenticated);
     }
 
-    String password = decryptRsa(dto.getPassword(), encodePrivateKey);
+    String password = scope.join(passwordTask);
+    String previousPassword = entity.getPreviousPassword();
+    CompletableFuture<Boolean> previousTask = scope.fork(() ->
+        authMetrics.phase(CHANGE_PASSWORD, "password", () ->
+            passwordEncoder.matches(password, previousPassword)));
 
     // 변경할 비밀번호를 현재, 이전에 사용한 적 있는지 체크
-    if (passwordEncoder.matches(password, entity.getPassword())) {
+    if (authMetrics.phase(CHANGE_PASSWORD, "password", () ->
+        passwordEncoder.matches(password, entity.getPassword()))) {
       return RestUtil.error(unAuthenticated, unAuthenticated.getMessage(), "CP001");
     }
 
-    if (passwordEncoder.matches(password, entity.getPreviousPassword())) {
+    if (scope.join(previousTask)) {
       return RestUtil.error(unAuthenticated, unAuthenticated.getMessage(), "CP002");
     }
 
-    entity.changePassword(passwordEncoder.encode(password));
+    String encodePassword = authMetrics.phase(CHANGE_PASSWORD, "password-encode", () ->
+        passwordEncoder.encode(password));
+
+    entity.changePassword(encodePassword);
 
     return RestUtil.ok();
   }
@@ -269,13 +592,17 @@ public class AuthServiceImpl implements AuthService {
    *
    * @param dto {@link SignUpdateRequest}
    * @return response entity
-   * @apiNote 내 정보 수정
+   * @apiNote Client 토큰은 계정이 없으므로 거절
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:06:17
    */
   @Override
   @Transactional
   public ResponseEntity<?> updateInfo(SignUpdateRequest dto) {
+    if (ClientTokenStore.isClient(RestUtil.getSignedId())) {
+      return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
+    }
+
     Long rsaTtl = entityData.getRsaTtl();
     String encodePublicKey = dto.getRsa();
 
@@ -288,7 +615,10 @@ public class AuthServiceImpl implements AuthService {
     String encodePrivateKey = redis.getPrivateKey();
     Account signed = RestUtil.getSigned();
 
-    signed.updateEntity(dto.getGender(), decryptRsa(dto.getNickname(), encodePrivateKey));
+    String nickname = authMetrics.phase(UPDATE_INFO, "decrypt-nickname", () ->
+        decryptRsa(dto.getNickname(), encodePrivateKey));
+
+    signed.updateEntity(dto.getGender(), nickname);
 
     return RestUtil.ok();
   }
@@ -297,13 +627,17 @@ public class AuthServiceImpl implements AuthService {
    * 탈퇴
    *
    * @return response entity
-   * @apiNote 탈퇴
+   * @apiNote Client 토큰은 계정이 없으므로 거절
    * @author FreshR
    * @since 2024. 4. 2. 오후 1:06:17
    */
   @Override
   @Transactional
   public ResponseEntity<?> withdrawal() {
+    if (ClientTokenStore.isClient(RestUtil.getSignedId())) {
+      return RestUtil.error(RestUtil.getExceptions().getAccessDenied());
+    }
+
     Account signed = RestUtil.getSigned();
     String id = signed.getId();
 
@@ -312,6 +646,8 @@ public class AuthServiceImpl implements AuthService {
     refreshRedisUnit.delete(accessRedisUnit.getBySignId(id));
     accessRedisUnit.deleteBySignId(id);
 
+    authAudit.record(WITHDRAWAL, id, null, null);
+
     return RestUtil.ok();
   }
 
@@ -328,12 +664,33 @@ public class AuthServiceImpl implements AuthService {
   @Override
   @Transactional
   public ResponseEntity<?> refreshAccessToken(HttpServletRequest request, RefreshTokenRequest dto) {
+    return authMetrics.operation(REFRESH, () -> processRefreshAccessToken(request, dto));
+  }
+
+  /**
+   * Access 토큰 갱신 처리
+   *
+   * @param request 요청 정보
+   * @param dto     {@link RefreshTokenRequest}
+   * @return response entity
+   * @apiNote 단계별 처리 시간을 {@link AuthMetrics} 로 기록<br>
+   *          Refresh 토큰 정보나 Access 토큰 정보가 없으면 entityNotFound
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private ResponseEntity<?> processRefreshAccessToken(HttpServletRequest request,
+      RefreshTokenRequest dto) {
     String refreshToken = provider.extractToken(request);
     String accessToken = dto.getAccessToken();
 
-    provider.validateRefreshToken(refreshToken);
+    authMetrics.phase(REFRESH, "validate", () -> provider.validateRefreshToken(refreshToken));
+
+    RefreshRedis refresh = authMetrics.phase(REFRESH, "redis-read", () ->
+        refreshRedisUnit.get(refreshToken)); // Refresh Token 상세 조회
 
-    RefreshRedis refresh = refreshRedisUnit.get(refreshToken); // Refresh Token 상세 조회
+    if (refresh == null) {
+      return RestUtil.error(RestUtil.getExceptions().getEntityNotFound());
+    }
 
     /*
      * Refresh 토큰과 pairing 된 Access 토큰 정보와 요청 Access 토큰 정보가 다른지 체크
@@ -342,50 +699,110 @@ public class AuthServiceImpl implements AuthService {
      * 모든 디바이스에서 로그아웃 처리
      */
     if (!refresh.getAccess().getId().equals(accessToken)) {
-      accessRedisUnit.delete(accessToken);
-      accessRedisUnit.delete(refresh.getAccess().getId());
-      refreshRedisUnit.delete(refreshToken);
+      authMetrics.phase(REFRESH, "redis-write", () -> {
+        accessRedisUnit.delete(accessToken);
+        accessRedisUnit.delete(refresh.getAccess().getId());
+        refreshRedisUnit.delete(refreshToken);
+      });
+
+      authAudit.record(REFRESH_THEFT, refresh.getAccess().getSignId(), null, null);
 
       return RestUtil.error(RestUtil.getExceptions().getUnAuthenticated());
     }
 
     LocalDateTime updateAt = refresh.getUpdateAt(); // Access Token 갱신 날짜 시간 조회
-    AccessRedis access = accessRedisUnit.get(accessToken); // Access Token 상세 조회
+    AccessRedis access = authMetrics.phase(REFRESH, "redis-read", () ->
+        accessRedisUnit.get(accessToken)); // Access Token 상세 조회
+
+    if (access == null) {
+      return RestUtil.error(RestUtil.getExceptions().getEntityNotFound());
+    }
+
     String id = access.getSignId(); // 계정 일련 번호 조회
     Role role = access.getRole(); // 계정 권한 조회
 
+    // Client 토큰은 Refresh 토큰 없이 발급하므로 계정 토큰이 아니면 거절
+    if (ClientTokenStore.isClient(id)) {
+      return RestUtil.error(RestUtil.getExceptions().getUnAuthenticated());
+    }
+
     // 인증인가 유지 기간을 넘었는지 확인. 넘었다면 로그아웃 처리
     long limit = entityData.getRefreshTtl();
 
     if (Duration.between(updateAt, LocalDateTime.now()).getSeconds() > limit) {
-      accessRedisUnit.delete(accessToken);
-      refreshRedisUnit.delete(refreshToken);
+      authMetrics.phase(REFRESH, "redis-write", () -> {
+        accessRedisUnit.delete(accessToken);
+        refreshRedisUnit.delete(refreshToken);
+      });
+
+      authAudit.record(REFRESH_EXPIRED, id, null, null);
 
       return RestUtil.error(RestUtil.getExceptions().getUnAuthenticated());
     }
 
     // 새로운 Access Token 발급
-    String newAccessToken = provider.generateAccessToken(id);
+    String newAccessToken = authMetrics.phase(REFRESH, "token", () ->
+        provider.generateAccessToken(id));
 
-    accessRedisUnit.delete(accessToken);
-    accessRedisUnit.save(AccessRedis.builder()
-        .id(newAccessToken)
-        .signId(id)
-        .role(role)
-        .build());
+    authMetrics.phase(REFRESH, "redis-write", () -> {
+      accessRedisUnit.delete(accessToken);
+      accessRedisUnit.save(AccessRedis.builder()
+          .id(newAccessToken)
+          .signId(id)
+          .role(role)
+          .build());
 
-    refresh.updateRedis(accessRedisUnit.get(newAccessToken), limit);
-    refreshRedisUnit.save(refresh);
+      refresh.updateRedis(accessRedisUnit.get(newAccessToken), limit);
+      refreshRedisUnit.save(refresh);
+    });
 
     // 계정 최근 접속 날짜 시간 갱신
-    accountAuthUnit.get(id).signed();
+    authMetrics.phase(REFRESH, "account", () -> accountAuthUnit.get(id).signed());
 
     RefreshTokenResponse response = RefreshTokenResponse
         .builder()
         .accessToken(newAccessToken)
+        .expiresIn(accessTokenLifetime.next())
         .build();
 
+    authAudit.record(AuthAuditType.REFRESH, id, null, null);
+
     return RestUtil.ok(response);
   }
 
+  /**
+   * Access 토큰 검증
+   *
+   * @param request 요청 정보
+   * @return introspect
+   * @apiNote Redis 에 저장된 Access 토큰 정보로 검증<br>
+   *          security filter 를 거치지 않으므로 계정 조회 없이 Redis 조회 한 번으로 처리<br>
+   *          Client 토큰은 계정 일련 번호 대신 client 아이디를 반환
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public ResponseEntity<?> introspect(HttpServletRequest request) {
+    return authMetrics.operation(INTROSPECT, () -> {
+      String accessToken = provider.extractToken(request);
+      AccessRedis access = hasLength(accessToken)
+          ? authMetrics.phase(INTROSPECT, "redis-read", () -> accessRedisUnit.get(accessToken))
+          : null;
+
+      if (access == null) {
+        return RestUtil.ok(IntrospectResponse.builder().active(false).build());
+      }
+
+      String signId = access.getSignId();
+
+      return RestUtil.ok(IntrospectResponse
+          .builder()
+          .active(true)
+          .id(ClientTokenStore.isClient(signId) ? null : signId)
+          .clientId(ClientTokenStore.clientId(signId))
+          .role(access.getRole())
+          .build());
+    });
+  }
+
 }
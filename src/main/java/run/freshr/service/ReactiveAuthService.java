@@ -0,0 +1,41 @@
+package run.freshr.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
+
+/**
+ * 권한 관리 reactive service
+ *
+ * @author FreshR
+ * @apiNote Redis 조회가 대부분인 토큰 갱신, 검증 기능의 non-blocking 구현<br>
+ *          응답은 {@link AuthService} 와 같다.
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+public interface ReactiveAuthService {
+
+  /**
+   * Access 토큰 갱신
+   *
+   * @param request 요청 정보
+   * @param dto     {@link RefreshTokenRequest}
+   * @return response entity
+   * @apiNote Access 토큰 갱신
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  Mono<ResponseEntity<?>> refreshAccessToken(HttpServletRequest request, RefreshTokenRequest dto);
+
+  /**
+   * Access 토큰 검증
+   *
+   * @param request 요청 정보
+   * @return introspect
+   * @apiNote Access 토큰 검증
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  Mono<ResponseEntity<?>> introspect(HttpServletRequest request);
+
+}
@@ -0,0 +1,308 @@
+package run.freshr.service;
+
+import static run.freshr.common.audit.AuthAuditType.REFRESH_EXPIRED;
+import static run.freshr.common.audit.AuthAuditType.REFRESH_THEFT;
+import static run.freshr.common.metrics.AuthMetrics.INTROSPECT;
+import static run.freshr.common.metrics.AuthMetrics.REFRESH;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import run.freshr.common.audit.AuthAudit;
+import run.freshr.common.audit.AuthAuditType;
+import run.freshr.common.client.ClientTokenStore;
+import run.freshr.common.data.EntityData;
+import run.freshr.common.data.ExceptionData;
+import run.freshr.common.metrics.AuthMetrics;
+import run.freshr.common.security.AccessTokenLifetime;
+import run.freshr.common.security.TokenProvider;
+import run.freshr.common.throttle.SignInThrottle;
+import run.freshr.common.utils.RestUtil;
+import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
+import run.freshr.domain.auth.dto.response.IntrospectResponse;
+import run.freshr.domain.auth.dto.response.RefreshTokenResponse;
+import run.freshr.domain.auth.redis.AccessRedis;
+import run.freshr.domain.auth.redis.RefreshRedis;
+import run.freshr.domain.auth.unit.jpa.AccountAuthUnit;
+import run.freshr.domain.auth.unit.redis.AccessRedisUnit;
+import run.freshr.domain.auth.unit.redis.RefreshRedisUnit;
+
+/**
+ * 권한 관리 reactive service 구현 class
+ *
+ * @author FreshR
+ * @apiNote reactive profile 에서만 생성<br>
+ *          Redis, JPA 처리는 blocking 방식과 같은 Unit 을 boundedElastic scheduler 에서 실행해서<br>
+ *          요청 thread 와 Lettuce event loop 를 막지 않는다.<br>
+ *          Unit 을 그대로 사용하므로 Redis repository 의 저장 방식 (유효 기간, phantom, 색인) 과<br>
+ *          {@code @Reference} 조회도 blocking 방식과 같고, 서로 의존하지 않는 처리는 동시에 실행
+ * @since 2024. 4. 2. 오후 1:06:17
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+  private final AccessRedisUnit accessRedisUnit;
+  private final RefreshRedisUnit refreshRedisUnit;
+  private final AccountAuthUnit accountAuthUnit;
+
+  private final TokenProvider provider;
+  private final AccessTokenLifetime accessTokenLifetime;
+  private final TransactionTemplate transactionTemplate;
+
+  private final EntityData entityData;
+
+  private final AuthMetrics authMetrics;
+  private final AuthAudit authAudit;
+
+  /**
+   * Access 토큰 갱신
+   *
+   * @param request 요청 정보
+   * @param dto     {@link RefreshTokenRequest}
+   * @return response entity
+   * @apiNote 요청 정보는 요청 thread 에서만 사용할 수 있으므로 토큰, 감사 기록용 client 정보를 먼저 추출
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public Mono<ResponseEntity<?>> refreshAccessToken(HttpServletRequest request,
+      RefreshTokenRequest dto) {
+    String refreshToken = provider.extractToken(request);
+    String accessToken = dto.getAccessToken();
+    Client client = new Client(SignInThrottle.getClientIp(request),
+        request.getHeader(HttpHeaders.USER_AGENT));
+
+    return authMetrics.operation(REFRESH, Mono.defer(() -> {
+      authMetrics.phase(REFRESH, "validate", () -> provider.validateRefreshToken(refreshToken));
+
+      return processRefreshAccessToken(refreshToken, accessToken, client);
+    }));
+  }
+
+  /**
+   * Access 토큰 갱신 처리
+   *
+   * @param refreshToken Refresh 토큰
+   * @param accessToken  Access 토큰
+   * @param client       요청 client 정보
+   * @return response entity
+   * @apiNote {@link AuthServiceImpl#refreshAccessToken} 와 같은 순서로 검증하고 같은 감사 이벤트를 기록<br>
+   *          Refresh 토큰 정보나 Access 토큰 정보가 없으면 entityNotFound
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Mono<ResponseEntity<?>> processRefreshAccessToken(String refreshToken,
+      String accessToken, Client client) {
+    ExceptionData entityNotFound = RestUtil.getExceptions().getEntityNotFound();
+
+    return read(() -> refreshRedisUnit.get(refreshToken)) // Refresh Token 상세 조회
+        .flatMap(refresh -> {
+          String pairedAccessToken = refresh.getAccess().getId();
+
+          /*
+           * Refresh 토큰과 pairing 된 Access 토큰 정보와 요청 Access 토큰 정보가 다른지 체크
+           * 두 정보가 다르다면 요청 Refresh 토큰은 제 3 자에게 탈취당한 것으로 판단
+           * Refresh 토큰과 모든 Access 토큰을 파기
+           * 모든 디바이스에서 로그아웃 처리
+           */
+          if (!pairedAccessToken.equals(accessToken)) {
+            return Mono.when(
+                    write(() -> accessRedisUnit.delete(accessToken)),
+                    write(() -> accessRedisUnit.delete(pairedAccessToken)),
+                    write(() -> refreshRedisUnit.delete(refreshToken)))
+                .then(Mono.fromRunnable(() ->
+                    audit(REFRESH_THEFT, refresh.getAccess().getSignId(), client)))
+                .then(unAuthenticated());
+          }
+
+          return read(() -> accessRedisUnit.get(accessToken)) // Access Token 상세 조회
+              .flatMap(access -> rotate(refresh, access, refreshToken, accessToken, client));
+        })
+        .switchIfEmpty(Mono.fromSupplier(() -> RestUtil.error(entityNotFound)));
+  }
+
+  /**
+   * Access 토큰 교체
+   *
+   * @param refresh      Refresh 토큰 정보
+   * @param access       Access 토큰 정보
+   * @param refreshToken Refresh 토큰
+   * @param accessToken  Access 토큰
+   * @param client       요청 client 정보
+   * @return response entity
+   * @apiNote 이전 Access 토큰 삭제, 새로운 Access 토큰 저장, 계정 최근 접속 날짜 시간 갱신은 동시에 처리하고<br>
+   *          Refresh 토큰은 새로운 Access 토큰이 저장된 뒤에 갱신
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Mono<ResponseEntity<?>> rotate(RefreshRedis refresh, AccessRedis access,
+      String refreshToken, String accessToken, Client client) {
+    LocalDateTime updateAt = refresh.getUpdateAt(); // Access Token 갱신 날짜 시간 조회
+    String id = access.getSignId(); // 계정 일련 번호 조회
+
+    // Client 토큰은 Refresh 토큰 없이 발급하므로 계정 토큰이 아니면 거절
+    if (ClientTokenStore.isClient(id)) {
+      return unAuthenticated();
+    }
+
+    // 인증인가 유지 기간을 넘었는지 확인. 넘었다면 로그아웃 처리
+    long limit = entityData.getRefreshTtl();
+
+    if (Duration.between(updateAt, LocalDateTime.now()).getSeconds() > limit) {
+      return Mono.when(
+              write(() -> accessRedisUnit.delete(accessToken)),
+              write(() -> refreshRedisUnit.delete(refreshToken)))
+          .then(Mono.fromRunnable(() -> audit(REFRESH_EXPIRED, id, client)))
+          .then(unAuthenticated());
+    }
+
+    // 새로운 Access Token 발급
+    String newAccessToken = authMetrics.phase(REFRESH, "token", () ->
+        provider.generateAccessToken(id));
+    AccessRedis newAccess = AccessRedis.builder()
+        .id(newAccessToken)
+        .signId(id)
+        .role(access.getRole())
+        .build();
+
+    Mono<Void> saveAccess = Mono.when(
+            write(() -> accessRedisUnit.delete(accessToken)),
+            write(() -> accessRedisUnit.save(newAccess)))
+        .then(Mono.defer(() -> {
+          refresh.updateRedis(newAccess, limit);
+
+          return write(() -> refreshRedisUnit.save(refresh));
+        }));
+
+    RefreshTokenResponse response = RefreshTokenResponse
+        .builder()
+        .accessToken(newAccessToken)
+        .expiresIn(accessTokenLifetime.next())
+        .build();
+
+    return Mono.when(saveAccess, signed(id))
+        .then(Mono.fromSupplier(() -> {
+          audit(AuthAuditType.REFRESH, id, client);
+
+          return RestUtil.ok(response);
+        }));
+  }
+
+  /**
+   * 감사 이벤트 기록
+   *
+   * @param type   유형
+   * @param id     계정 일련 번호
+   * @param client 요청 client 정보
+   * @apiNote Redis 응답 thread 에서는 요청 정보를 조회할 수 없으므로 추출해 둔 client 정보로 기록
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private void audit(AuthAuditType type, String id, Client client) {
+    authAudit.record(type, id, null, null, client.getIp(), client.getUserAgent());
+  }
+
+  /**
+   * 계정 최근 접속 날짜 시간 갱신
+   *
+   * @param id 계정 일련 번호
+   * @return 완료 신호
+   * @apiNote JPA 는 blocking 이므로 boundedElastic scheduler 의 transaction 에서 처리
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private Mono<Void> signed(String id) {
+    return Mono.<Void>fromRunnable(() -> transactionTemplate.executeWithoutResult(status ->
+            accountAuthUnit.get(id).signed()))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Access 토큰 검증
+   *
+   * @param request 요청 정보
+   * @return introspect
+   * @apiNote Redis 에 저장된 Access 토큰 정보로 검증<br>
+   *          Client 토큰은 계정 일련 번호 대신 client 아이디를 반환
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  @Override
+  public Mono<ResponseEntity<?>> introspect(HttpServletRequest request) {
+    String accessToken = provider.extractToken(request);
+
+    return authMetrics.operation(INTROSPECT, read(() -> accessRedisUnit.get(accessToken))
+        .map(access -> IntrospectResponse
+            .builder()
+            .active(true)
+            .id(ClientTokenStore.isClient(access.getSignId()) ? null : access.getSignId())
+            .clientId(ClientTokenStore.clientId(access.getSignId()))
+            .role(access.getRole())
+            .build())
+        .defaultIfEmpty(IntrospectResponse.builder().active(false).build())
+        .map(RestUtil::ok));
+  }
+
+  /**
+   * Redis 조회
+   *
+   * @param <T>      조회 결과 유형
+   * @param callable 조회
+   * @return 조회 결과, 없으면 empty
+   * @apiNote Unit 은 blocking 이므로 boundedElastic scheduler 에서 처리
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private static <T> Mono<T> read(Callable<T> callable) {
+    return Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Redis 저장, 삭제
+   *
+   * @param runnable 저장, 삭제
+   * @return 완료 신호
+   * @apiNote Unit 은 blocking 이므로 boundedElastic scheduler 에서 처리
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 1:06:17
+   */
+  private static Mono<Void> write(Runnable runnable) {
+    return Mono.<Void>fromRunnable(runnable).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private Mono<ResponseEntity<?>> unAuthenticated() {
+    ExceptionData unAuthenticated = RestUtil.getExceptions().getUnAuthenticated();
+
+    return Mono.fromSupplier(() -> RestUtil.error(unAuthenticated));
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class Client {
+
+    /**
+     * Client IP
+     */
+    private final String ip;
+
+    /**
+     * User-Agent
+     */
+    private final String userAgent;
+
+  }
+
+}
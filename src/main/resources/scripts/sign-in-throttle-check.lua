@@ -0,0 +1,10 @@
+-- 차단 여부 확인
+-- KEYS[1]: 차단 key
+-- return: 남은 차단 시간 (ms), 차단 중이 아니면 0
+local ttl = redis.call('PTTL', KEYS[1])
+
+if ttl > 0 then
+  return ttl
+end
+
+return 0
@@ -0,0 +1,32 @@
+-- 로그인 실패 기록 (sliding window)
+-- KEYS[1]: 실패 기록 sorted set key
+-- KEYS[2]: 차단 key
+-- ARGV[1]: 현재 시간 (ms)
+-- ARGV[2]: window 크기 (ms)
+-- ARGV[3]: 차단 기준 실패 횟수
+-- ARGV[4]: 최초 차단 시간 (ms)
+-- ARGV[5]: 최대 차단 시간 (ms)
+-- ARGV[6]: 기록 식별 값
+-- return: 차단 시간 (ms), 차단하지 않으면 0
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local threshold = tonumber(ARGV[3])
+local base = tonumber(ARGV[4])
+local max = tonumber(ARGV[5])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+redis.call('ZADD', KEYS[1], now, ARGV[6])
+redis.call('PEXPIRE', KEYS[1], window)
+
+local count = redis.call('ZCARD', KEYS[1])
+
+if count < threshold then
+  return 0
+end
+
+-- 기준을 넘은 횟수만큼 차단 시간을 2 배씩 늘린다.
+local block = math.min(max, base * (2 ^ (count - threshold)))
+
+redis.call('SET', KEYS[2], 1, 'PX', math.floor(block))
+
+return math.floor(block)
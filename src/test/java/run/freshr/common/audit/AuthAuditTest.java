@@ -0,0 +1,84 @@
+package run.freshr.common.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("인증 감사 기록")
+public class AuthAuditTest extends TestExtension {
+
+  @Autowired
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @Autowired
+  private AuthAuditProperties properties;
+
+  @Autowired
+  private AuthAudit authAudit;
+
+  @Test
+  @DisplayName("로그아웃은 Elasticsearch 에 bulk 로 색인된다")
+  public void signOut() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    POST(URIConfiguration.uriAuthSignOut)
+        .andExpect(status().isOk());
+
+    IndexCoordinates index = IndexCoordinates.of(properties.getIndex() + "-*");
+    long deadline = System.currentTimeMillis() + 10000;
+    long count = 0;
+
+    while (count == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(200);
+
+      elasticsearchOperations.indexOps(index).refresh();
+
+      count = elasticsearchOperations.count(NativeQuery.builder()
+          .withQuery(query -> query.term(term -> term
+              .field("type.keyword")
+              .value(AuthAuditType.SIGN_OUT.name())))
+          .build(), index);
+    }
+
+    assertTrue(count > 0);
+  }
+
+  @Test
+  @DisplayName("같은 이벤트를 다시 색인해도 문서는 하나")
+  public void reindexSameEvent() throws Exception {
+    AuthAuditEvent event = AuthAuditEvent.builder()
+        .id(UUID.randomUUID().toString())
+        .timestamp(Instant.now())
+        .type(AuthAuditType.REFRESH)
+        .build();
+
+    authAudit.publish(event);
+    Thread.sleep(properties.getFlushInterval() * 2);
+    authAudit.publish(event);
+    Thread.sleep(properties.getFlushInterval() * 2);
+
+    IndexCoordinates index = IndexCoordinates.of(properties.getIndex() + "-*");
+
+    elasticsearchOperations.indexOps(index).refresh();
+
+    long count = elasticsearchOperations.count(NativeQuery.builder()
+        .withIds(event.getId())
+        .build(), index);
+
+    assertEquals(1, count);
+  }
+
+}
@@ -0,0 +1,64 @@
+package run.freshr.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("JDBC connection 지연")
+@TestPropertySource(properties = {
+    // 아이디 Bloom filter 주기 갱신 transaction 이 connection 수에 섞이지 않도록 테스트 중에는 실행하지 않는다.
+    "freshr.username-filter.refresh-interval=86400000"
+})
+public class LazyConnectionTest extends TestExtension {
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName("Redis 만 사용하는 transaction 은 connection 을 빌리지 않는다")
+  public void redisOnlyTransaction() throws Exception {
+    setSignedUser();
+
+    double none = count("none");
+    double acquired = count("acquired");
+
+    GET(URIConfiguration.uriAuthCrypto)
+        .andExpect(status().isOk());
+
+    assertEquals(none + 1, count("none"));
+    assertEquals(acquired, count("acquired"));
+  }
+
+  @Test
+  @DisplayName("DB 를 조회하는 transaction 은 connection 을 빌린다")
+  public void databaseTransaction() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    double acquired = count("acquired");
+
+    GET(URIConfiguration.uriAuthInfo)
+        .andExpect(status().isOk());
+
+    assertEquals(acquired + 1, count("acquired"));
+  }
+
+  private double count(String connection) {
+    return meterRegistry.find("auth.transaction.connection")
+        .tag("connection", connection)
+        .counters()
+        .stream()
+        .mapToDouble(Counter::count)
+        .sum();
+  }
+
+}
@@ -0,0 +1,146 @@
+package run.freshr.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import run.freshr.common.datasource.DataSourcePools.Replica;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("Read replica routing")
+@TestMethodOrder(OrderAnnotation.class)
+public class ReplicaRoutingTest extends TestExtension {
+
+  private static final PostgreSQLContainer<?> REPLICA_CONTAINER;
+
+  static {
+    REPLICA_CONTAINER = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"))
+        .withUsername("postgres")
+        .withPassword("postgres")
+        .withDatabaseName("replica");
+
+    REPLICA_CONTAINER.start();
+  }
+
+  @Autowired
+  private DataSourcePools pools;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @DynamicPropertySource
+  public static void replicaProperties(DynamicPropertyRegistry registry) {
+    registry.add("freshr.datasource.replica.enabled", () -> true);
+    registry.add("freshr.datasource.replica.urls[0]", () ->
+        "jdbc:postgresql://localhost:"
+            + REPLICA_CONTAINER.getMappedPort(5432)
+            + "/replica");
+    registry.add("freshr.datasource.replica.check-interval", () -> 60000);
+  }
+
+  @BeforeEach
+  public void check() {
+    pools.check();
+  }
+
+  @Test
+  @Order(1)
+  @DisplayName("읽기 전용 transaction 은 replica")
+  public void readOnlyUsesReplica() {
+    assertEquals("replica", currentDatabase(true));
+  }
+
+  @Test
+  @Order(2)
+  @DisplayName("쓰기 transaction 은 primary")
+  public void readWriteUsesPrimary() {
+    assertEquals("postgres", currentDatabase(false));
+  }
+
+  @Test
+  @Order(3)
+  @DisplayName("transaction 밖의 조회는 primary")
+  public void nonTransactionalUsesPrimary() {
+    assertEquals("postgres", jdbcTemplate.queryForObject("SELECT current_database()",
+        String.class));
+  }
+
+  @Test
+  @Order(4)
+  @DisplayName("쓰기가 없던 primary 에 새로 쓰기가 생긴 직후의 replica 는 사용")
+  public void lagAfterIdle() {
+    Replica replica = pools.getReplicas().get(0);
+    long now = System.currentTimeMillis();
+
+    // 마지막 반영 transaction 은 한 시간 전이지만 직전 확인에서 primary 를 따라잡은 상태
+    pools.apply(replica, true, 1024L, 3_600_000L, now + 100);
+
+    assertTrue(replica.isHealthy());
+    assertEquals("replica", currentDatabase(true));
+  }
+
+  @Test
+  @Order(5)
+  @DisplayName("Primary WAL 을 따라잡지 못하는 replica 는 primary")
+  public void lagBeyondMax() {
+    Replica replica = pools.getReplicas().get(0);
+    long now = System.currentTimeMillis();
+
+    // 복제가 끊겨 primary 의 새 WAL 을 받지 못한 채 max-lag 이상 지남
+    pools.apply(replica, true, 1024L, 3_600_000L, now + 2000);
+
+    assertFalse(replica.isHealthy());
+    assertTrue(replica.getLag() > 1000);
+    assertEquals("postgres", currentDatabase(true));
+
+    // primary WAL 위치까지 반영하면 다시 사용
+    pools.apply(replica, true, 0L, 3_600_000L, now + 3000);
+
+    assertTrue(replica.isHealthy());
+    assertEquals(0, replica.getLag());
+    assertEquals("replica", currentDatabase(true));
+  }
+
+  @Test
+  @Order(6)
+  @DisplayName("Replica 장애 시 primary")
+  public void fallbackToPrimary() {
+    REPLICA_CONTAINER.stop();
+    // 중지된 container 의 유휴 connection 제거
+    pools.getReplicas().get(0).getDataSource().getHikariPoolMXBean().softEvictConnections();
+
+    // 상태 확인 전: connection 을 받지 못하면 primary 로 처리하고 replica 사용 중지
+    assertEquals("postgres", currentDatabase(true));
+    assertFalse(pools.getReplicas().get(0).isHealthy());
+
+    // 상태 확인 후: 건강한 replica 가 없으므로 primary
+    pools.check();
+
+    assertEquals("postgres", currentDatabase(true));
+  }
+
+  private String currentDatabase(boolean readOnly) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    transactionTemplate.setReadOnly(readOnly);
+
+    return transactionTemplate.execute(status ->
+        jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+  }
+
+}
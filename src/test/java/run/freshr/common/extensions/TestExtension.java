@@ -75,6 +75,10 @@ public class TestExtension extends TestSecurityExtensionAware<TestService, TestR
         "jdbc:postgresql://localhost:"
             + POSTGRES_CONTAINER.getMappedPort(5432)
             + "/postgres");
+
+    registry.add("freshr.round-trip.header", () -> true);
+    registry.add("freshr.grpc.port", () -> 0);
+    registry.add("freshr.warm-up.enabled", () -> false);
   }
 
 }
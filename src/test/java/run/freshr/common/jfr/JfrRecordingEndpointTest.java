@@ -0,0 +1,87 @@
+package run.freshr.common.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import jdk.jfr.RecordingState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("JFR 기록 endpoint")
+public class JfrRecordingEndpointTest extends TestExtension {
+
+  @Autowired
+  private JfrRecordingEndpoint endpoint;
+
+  @AfterEach
+  public void close() throws IOException {
+    endpoint.close();
+  }
+
+  @Test
+  @DisplayName("Snapshot 파일은 다운로드가 끝나면 삭제된다")
+  public void snapshotDeleted() throws Exception {
+    endpoint.startRecording(60L, null);
+
+    long before = snapshotCount();
+    Resource snapshot = endpoint.dump("dump");
+
+    try (InputStream in = snapshot.getInputStream()) {
+      assertTrue(in.readAllBytes().length > 0);
+    }
+
+    assertTrue(snapshotCount() <= before);
+  }
+
+  @Test
+  @DisplayName("다운로드 중인 snapshot 수는 max-snapshots 로 제한된다")
+  public void snapshotLimited() throws Exception {
+    endpoint.startRecording(60L, null);
+
+    try (InputStream first = endpoint.dump("dump").getInputStream();
+        InputStream second = endpoint.dump("dump").getInputStream()) {
+      assertThrows(IllegalStateException.class, () -> endpoint.dump("dump"));
+    }
+
+    endpoint.dump("dump").getInputStream().close();
+  }
+
+  @Test
+  @DisplayName("새 기록을 시작하면 이전 기록 파일이 삭제된다")
+  public void previousDestinationDeleted() throws Exception {
+    endpoint.startRecording(1L, null);
+
+    Path previous = Path.of((String) endpoint.getRecording().get("destination"));
+    long deadline = System.currentTimeMillis() + 10000;
+
+    while (endpoint.getRecording().get("state") == RecordingState.RUNNING
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(200);
+    }
+
+    assertTrue(Files.exists(previous));
+
+    endpoint.startRecording(60L, null);
+
+    assertFalse(Files.exists(previous));
+  }
+
+  private static long snapshotCount() throws IOException {
+    try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith("service-auth-snapshot-"))
+          .count();
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+package run.freshr.common.limit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("AIMD 동시 처리 제한")
+public class AimdLimiterTest extends TestExtension {
+
+  private static final long FAST = MILLISECONDS.toNanos(10);
+  private static final long SLOW = MILLISECONDS.toNanos(200);
+
+  @Test
+  @DisplayName("제한에 도달하면 허가하지 않는다")
+  public void saturated() {
+    AimdLimiter limiter = newLimiter(2, 1, 10);
+
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+    assertEquals(2, limiter.getInFlight());
+
+    limiter.release(FAST, false);
+
+    assertEquals(1, limiter.getInFlight());
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("목표 시간 이내로 처리하면 1 씩 늘어난다")
+  public void additiveIncrease() {
+    AimdLimiter limiter = newLimiter(4, 1, 10);
+
+    for (int i = 0; i < 4; i++) {
+      assertTrue(limiter.tryAcquire());
+    }
+
+    // 제한의 절반 이상을 사용 중일 때만 늘어난다.
+    limiter.release(FAST, false);
+    limiter.release(FAST, false);
+
+    assertEquals(6, limiter.getLimit());
+
+    limiter.release(FAST, false);
+    limiter.release(FAST, false);
+
+    assertEquals(6, limiter.getLimit());
+  }
+
+  @Test
+  @DisplayName("목표 시간을 넘거나 오류가 발생하면 감소 비율만큼 줄어든다")
+  public void multiplicativeDecrease() {
+    AimdLimiter limiter = newLimiter(10, 1, 10);
+
+    limiter.tryAcquire();
+    limiter.release(SLOW, false);
+
+    assertEquals(5, limiter.getLimit());
+
+    limiter.tryAcquire();
+    limiter.release(FAST, true);
+
+    assertEquals(2, limiter.getLimit());
+  }
+
+  @Test
+  @DisplayName("최소, 최대 동시 처리 수를 벗어나지 않는다")
+  public void bounds() {
+    AimdLimiter limiter = newLimiter(3, 2, 4);
+
+    for (int i = 0; i < 5; i++) {
+      limiter.tryAcquire();
+      limiter.release(SLOW, false);
+    }
+
+    assertEquals(2, limiter.getLimit());
+
+    for (int i = 0; i < 10; i++) {
+      limiter.tryAcquire();
+      limiter.tryAcquire();
+      limiter.release(FAST, false);
+      limiter.release(FAST, false);
+    }
+
+    assertEquals(4, limiter.getLimit());
+    assertEquals(4, newLimiter(100, 2, 4).getLimit());
+    assertEquals(2, newLimiter(1, 2, 4).getLimit());
+  }
+
+  /**
+   * 목표 100ms, 감소 비율 0.5 인 limiter
+   */
+  private static AimdLimiter newLimiter(int initialLimit, int minLimit, int maxLimit) {
+    ConcurrencyLimitProperties.Group group = new ConcurrencyLimitProperties.Group();
+
+    group.setInitialLimit(initialLimit);
+    group.setMinLimit(minLimit);
+    group.setMaxLimit(maxLimit);
+    group.setTargetLatency(100L);
+    group.setBackoffRatio(0.5);
+
+    return new AimdLimiter(group);
+  }
+
+}
@@ -0,0 +1,75 @@
+package run.freshr.common.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.extensions.TestExtension;
+
+@ActiveProfiles({"test", "reactive"})
+@DisplayName("동시 처리 제한 interceptor")
+@TestPropertySource(properties = {
+    // 처리 중인 요청 하나로 그룹이 가득 차도록 제한을 1 로 고정
+    "freshr.limit.groups.token.initial-limit=1",
+    "freshr.limit.groups.token.min-limit=1",
+    "freshr.limit.groups.token.max-limit=1",
+    "freshr.limit.groups.token.retry-after=3"
+})
+public class ConcurrencyLimitInterceptorTest extends TestExtension {
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName("가득 찬 그룹은 Retry-After 와 함께 429, async dispatch 가 끝나면 허가를 반환")
+  public void saturated() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    // 비동기 요청은 async dispatch 가 끝날 때까지 허가를 가지고 있다.
+    MvcResult started = GET(URIConfiguration.uriAuthIntrospect)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    assertEquals(1, inFlight());
+
+    GET(URIConfiguration.uriAuthIntrospect)
+        .andDo(print())
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string(RETRY_AFTER, "3"));
+
+    mockMvc.perform(asyncDispatch(started))
+        .andDo(print())
+        .andExpect(status().isOk());
+
+    assertEquals(0, inFlight());
+
+    // 반환된 허가로 다음 요청을 처리
+    MvcResult next = GET(URIConfiguration.uriAuthIntrospect)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(next))
+        .andExpect(status().isOk());
+
+    assertEquals(0, inFlight());
+  }
+
+  private double inFlight() {
+    return meterRegistry.get("auth.limit.in-flight").tag("group", "token").gauge().value();
+  }
+
+}
@@ -0,0 +1,63 @@
+package run.freshr.common.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("비동기 로그")
+public class AsyncLoggingTest extends TestExtension {
+
+  @Test
+  @DisplayName("root logger 의 appender 는 ring buffer appender 로 감싼다")
+  public void installed() {
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+
+    assertInstanceOf(DroppingAsyncAppender.class, root.getAppender("AUTH-ASYNC"));
+  }
+
+  @Test
+  @DisplayName("남은 slot 이 기준 이하면 INFO 이하만 버린다")
+  public void discard() {
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    ListAppender<ILoggingEvent> target = new ListAppender<>();
+    DroppingAsyncAppender async = new DroppingAsyncAppender();
+    AtomicInteger discarded = new AtomicInteger();
+
+    target.setContext(context);
+    target.start();
+
+    async.setContext(context);
+    async.setRingBufferSize(64);
+    async.setDiscardingThreshold(64);
+    async.setDiscarded(event -> discarded.incrementAndGet());
+    async.addAppender(target);
+    async.start();
+
+    async.doAppend(event(context, Level.DEBUG));
+    async.doAppend(event(context, Level.INFO));
+    async.doAppend(event(context, Level.WARN));
+    async.doAppend(event(context, Level.ERROR));
+    async.stop();
+
+    assertEquals(2, discarded.get());
+    assertEquals(2, target.list.size());
+  }
+
+  private ILoggingEvent event(LoggerContext context, Level level) {
+    return new LoggingEvent(AsyncLoggingTest.class.getName(),
+        context.getLogger(AsyncLoggingTest.class), level, "message", null, null);
+  }
+
+}
@@ -0,0 +1,37 @@
+package run.freshr.common.matchers;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static run.freshr.common.metrics.RoundTripHeaderAdvice.HEADER_REDIS_COUNT;
+import static run.freshr.common.metrics.RoundTripHeaderAdvice.HEADER_SQL_COUNT;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * 요청 단위 backend 호출 횟수 검증
+ *
+ * @author FreshR
+ * @apiNote freshr.round-trip.header 로 전달된 Redis, SQL 호출 횟수의 상한을 검증
+ * @since 2024. 4. 2. 오후 2:15:54
+ */
+public class RoundTripMatchers {
+
+  public static ResultMatcher redisAtMost(long max) {
+    return atMost(HEADER_REDIS_COUNT, max);
+  }
+
+  public static ResultMatcher sqlAtMost(long max) {
+    return atMost(HEADER_SQL_COUNT, max);
+  }
+
+  private static ResultMatcher atMost(String header, long max) {
+    return result -> {
+      String value = result.getResponse().getHeader(header);
+
+      assertNotNull(value, header + " header 가 없습니다.");
+      assertTrue(Long.parseLong(value) <= max,
+          header + " 호출 횟수 " + value + " 회가 상한 " + max + " 회를 넘었습니다.");
+    };
+  }
+
+}
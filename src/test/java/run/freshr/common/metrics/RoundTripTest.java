@@ -0,0 +1,51 @@
+package run.freshr.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import run.freshr.common.concurrent.AuthExecutor;
+import run.freshr.common.concurrent.TaskScope;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("요청 단위 backend 호출 집계")
+public class RoundTripTest extends TestExtension {
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+  @Autowired
+  private AuthExecutor authExecutor;
+
+  @AfterEach
+  public void finish() {
+    RoundTrip.finish();
+  }
+
+  @Test
+  @DisplayName("Redis 는 명령 단위로 집계한다")
+  public void redisCommand() {
+    RoundTrip roundTrip = RoundTrip.start();
+
+    redisTemplate.opsForValue().set("round-trip", "1");
+    redisTemplate.hasKey("round-trip");
+    redisTemplate.delete("round-trip");
+
+    assertEquals(3, roundTrip.getRedisCount());
+  }
+
+  @Test
+  @DisplayName("TaskScope 로 시작한 작업의 호출도 요청 집계에 포함된다")
+  public void propagated() {
+    RoundTrip roundTrip = RoundTrip.start();
+
+    try (TaskScope scope = authExecutor.scope()) {
+      scope.join(scope.fork(() -> redisTemplate.hasKey("round-trip")));
+    }
+
+    assertEquals(1, roundTrip.getRedisCount());
+  }
+
+}
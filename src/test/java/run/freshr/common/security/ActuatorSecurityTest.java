@@ -0,0 +1,43 @@
+package run.freshr.common.security;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("Actuator 권한")
+public class ActuatorSecurityTest extends TestExtension {
+
+  @Test
+  @DisplayName("health 는 인증 없이 조회")
+  public void health() throws Exception {
+    setAnonymous();
+
+    GET("/actuator/health")
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("sqltrace, jfr 은 인증 없이 호출할 수 없다")
+  public void anonymous() throws Exception {
+    setAnonymous();
+
+    GET("/actuator/sqltrace")
+        .andExpect(status().is4xxClientError());
+    POST("/actuator/jfr")
+        .andExpect(status().is4xxClientError());
+  }
+
+  @Test
+  @DisplayName("sqltrace 는 일반 사용자 권한으로 호출할 수 없다")
+  public void user() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    GET("/actuator/sqltrace")
+        .andExpect(status().is4xxClientError());
+  }
+
+}
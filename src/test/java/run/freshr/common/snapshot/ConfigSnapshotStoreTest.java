@@ -0,0 +1,77 @@
+package run.freshr.common.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("설정 snapshot 저장소")
+public class ConfigSnapshotStoreTest extends TestExtension {
+
+  private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+  @TempDir
+  private Path path;
+
+  @Test
+  @DisplayName("저장한 설정을 그대로 읽는다")
+  public void roundTrip() throws Exception {
+    ConfigSnapshotStore store = store(path.toString());
+    Map<String, String> map = Map.of("freshr.entity.access-expiration", "900", "a.b", "한글");
+
+    store.write("dev", map);
+
+    assertEquals(map, store.read("dev").orElseThrow());
+  }
+
+  @Test
+  @DisplayName("다른 profile 의 snapshot 은 복호화되지 않는다")
+  public void wrongProfile() throws Exception {
+    ConfigSnapshotStore store = store(path.toString());
+
+    store.write("dev", Map.of("a", "b"));
+    Files.copy(store.file("dev"), store.file("prod"));
+
+    assertThrows(GeneralSecurityException.class, () -> store.read("prod"));
+  }
+
+  @Test
+  @DisplayName("변조된 파일은 복호화되지 않는다")
+  public void tampered() throws Exception {
+    ConfigSnapshotStore store = store(path.toString());
+
+    store.write("dev", Map.of("a", "b"));
+
+    byte[] content = Files.readAllBytes(store.file("dev"));
+
+    content[content.length - 1] ^= 1;
+    Files.write(store.file("dev"), content);
+
+    assertThrows(GeneralSecurityException.class, () -> store.read("dev"));
+  }
+
+  @Test
+  @DisplayName("경로가 없으면 비활성화")
+  public void withoutPath() {
+    assertTrue(ConfigSnapshotStore.of(new Binder(new MapConfigurationPropertySource(
+        Map.of(ConfigSnapshotStore.PREFIX + ".key", KEY)))).isEmpty());
+  }
+
+  private ConfigSnapshotStore store(String path) {
+    return ConfigSnapshotStore.of(new Binder(new MapConfigurationPropertySource(Map.of(
+        ConfigSnapshotStore.PREFIX + ".key", KEY,
+        ConfigSnapshotStore.PREFIX + ".path", path)))).orElseThrow();
+  }
+
+}
@@ -0,0 +1,193 @@
+package run.freshr.common.throttle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static run.freshr.common.throttle.SignInThrottle.TYPE_USERNAME;
+import static run.freshr.common.utils.CryptoUtil.encryptRsa;
+import static run.freshr.common.utils.ThreadUtil.threadPublicKey;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.extensions.TestExtension;
+import run.freshr.domain.auth.dto.request.SignInRequest;
+
+@DisplayName("로그인 실패 제한")
+@TestPropertySource(properties = {
+    "freshr.throttle.ip-threshold=5",
+    "freshr.throttle.username-threshold=3",
+    "freshr.throttle.base-block=1",
+    "freshr.throttle.max-block=4"
+})
+public class SignInThrottleTest extends TestExtension {
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("아이디 실패 횟수가 기준을 넘으면 Retry-After 와 함께 429")
+  public void usernameBlocked() throws Exception {
+    setAnonymous();
+    setRsa();
+
+    apply();
+
+    String username = randomUsername();
+
+    // 없는 아이디도 실패로 기록된다.
+    for (int i = 0; i < 3; i++) {
+      signIn(randomIp(), null, username).andExpect(status().isNotFound());
+    }
+
+    signIn(randomIp(), null, username)
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string(RETRY_AFTER, "1"));
+  }
+
+  @Test
+  @DisplayName("IP 실패 횟수가 기준을 넘으면 Retry-After 와 함께 429")
+  public void ipBlocked() throws Exception {
+    setAnonymous();
+    setRsa();
+
+    apply();
+
+    String ip = randomIp();
+
+    for (int i = 0; i < 5; i++) {
+      signIn(ip, null, randomUsername()).andExpect(status().isNotFound());
+    }
+
+    signIn(ip, null, randomUsername())
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().exists(RETRY_AFTER));
+  }
+
+  @Test
+  @DisplayName("Client IP 는 client 가 보낸 X-Forwarded-For 가 아닌 remote address")
+  public void forwardedForIgnored() throws Exception {
+    setAnonymous();
+    setRsa();
+
+    apply();
+
+    String ip = randomIp();
+
+    // X-Forwarded-For 를 바꿔도 같은 remote address 의 실패로 집계된다.
+    for (int i = 0; i < 5; i++) {
+      signIn(ip, randomIp(), randomUsername()).andExpect(status().isNotFound());
+    }
+
+    signIn(ip, randomIp(), randomUsername()).andExpect(status().isTooManyRequests());
+
+    // 차단된 IP 를 X-Forwarded-For 로 보내도 다른 remote address 는 차단되지 않는다.
+    signIn(randomIp(), ip, randomUsername()).andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("차단 시간은 기준을 넘은 횟수만큼 2 배씩 늘어나고 max-block 을 넘지 않는다")
+  public void exponentialBlock() {
+    SignInThrottle throttle = newThrottle();
+    String username = randomUsername();
+
+    for (int i = 0; i < 2; i++) {
+      throttle.failure(TYPE_USERNAME, username);
+    }
+
+    assertEquals(0, throttle.check(TYPE_USERNAME, username));
+
+    // 기준 3 회: 1 초, 2 초, 4 초, 이후 max-block 4 초
+    long[] expected = {1000, 2000, 4000, 4000};
+
+    for (long block : expected) {
+      throttle.failure(TYPE_USERNAME, username);
+
+      long remain = throttle.check(TYPE_USERNAME, username);
+
+      assertTrue(remain > block / 2 && remain <= block,
+          "남은 차단 시간 " + remain + " ms 가 " + block + " ms 기준과 다릅니다.");
+    }
+  }
+
+  @Test
+  @DisplayName("로그인에 성공하면 아이디의 실패 기록이 초기화된다")
+  public void resetOnSuccess() {
+    SignInThrottle throttle = newThrottle();
+    String username = randomUsername();
+
+    throttle.failure(TYPE_USERNAME, username);
+    throttle.failure(TYPE_USERNAME, username);
+    throttle.success(TYPE_USERNAME, username);
+    throttle.failure(TYPE_USERNAME, username);
+    throttle.failure(TYPE_USERNAME, username);
+
+    assertEquals(0, throttle.check(TYPE_USERNAME, username));
+
+    throttle.failure(TYPE_USERNAME, username);
+
+    assertTrue(throttle.check(TYPE_USERNAME, username) > 0);
+  }
+
+  private ResultActions signIn(String ip, String forwardedFor, String username) throws Exception {
+    String publicKey = threadPublicKey.get();
+    String content = objectMapper.writeValueAsString(SignInRequest
+        .builder()
+        .rsa(publicKey)
+        .username(encryptRsa(username, publicKey))
+        .password(encryptRsa("wrong-password", publicKey))
+        .build());
+
+    MockHttpServletRequestBuilder builder = post(URIConfiguration.uriAuthSignIn)
+        .contentType(APPLICATION_JSON)
+        .content(content)
+        .with(request -> {
+          request.setRemoteAddr(ip);
+
+          return request;
+        });
+
+    if (forwardedFor != null) {
+      builder.header("X-Forwarded-For", forwardedFor);
+    }
+
+    return mockMvc.perform(builder).andDo(print());
+  }
+
+  /**
+   * 테스트 설정과 같은 기준의 throttle
+   *
+   * @apiNote window 10 분, 아이디 기준 3 회, 최초 차단 1 초, 최대 차단 4 초
+   */
+  private SignInThrottle newThrottle() {
+    return new SignInThrottle(redisTemplate, new SimpleMeterRegistry(), true,
+        600, 5, 3, 1, 4);
+  }
+
+  private static String randomUsername() {
+    return UUID.randomUUID() + "@freshr.run";
+  }
+
+  private static String randomIp() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(1, 255);
+  }
+
+}
@@ -0,0 +1,126 @@
+package run.freshr.common.throttle;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static run.freshr.common.enumerations.Gender.OTHERS;
+import static run.freshr.domain.auth.enumerations.Privilege.USER;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.freshr.common.extensions.TestExtension;
+
+@DisplayName("존재하는 아이디 Bloom filter")
+@TestPropertySource(properties = {
+    // 주기적인 추가가 테스트 중에 실행되지 않도록 한다.
+    "freshr.username-filter.refresh-interval=86400000"
+})
+public class UsernameFilterTest extends TestExtension {
+
+  @Autowired
+  private UsernameFilter usernameFilter;
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private EntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  @DisplayName("없는 아이디는 filter 에 없다")
+  public void miss() {
+    UsernameFilter filter = newFilter();
+
+    filter.rebuild();
+
+    assertFalse(filter.mightContain(UUID.randomUUID() + "@freshr.run"));
+  }
+
+  @Test
+  @DisplayName("filter 에 없어도 최근 가입 key 가 있으면 거절하지 않는다")
+  public void recentSignUp() {
+    UsernameFilter filter = newFilter();
+    String username = UUID.randomUUID() + "@freshr.run";
+
+    filter.rebuild();
+
+    assertFalse(filter.mightContain(username));
+
+    // 다른 서비스에서 가입
+    redisTemplate.opsForValue().set(UsernameFilter.RECENT_PREFIX + username, "1", 60, SECONDS);
+
+    assertTrue(filter.mightContain(username));
+  }
+
+  @Test
+  @DisplayName("이 서비스에서 생성한 계정은 commit 후 바로 filter 에 추가된다")
+  public void postCommitInsert() {
+    String username = createAccount();
+
+    assertTrue(usernameFilter.mightContain(username));
+    assertTrue(redisTemplate.hasKey(UsernameFilter.RECENT_PREFIX + username));
+  }
+
+  @Test
+  @DisplayName("주기적인 추가로 다른 서비스에서 생성한 계정이 filter 에 추가된다")
+  public void refresh() {
+    // Hibernate event 를 등록하지 않은 instance: 다른 서비스에서 생성한 계정과 같은 상황
+    UsernameFilter other = newFilter();
+
+    other.rebuild();
+
+    String username = createAccount();
+
+    redisTemplate.delete(UsernameFilter.RECENT_PREFIX + username);
+
+    assertFalse(other.mightContain(username));
+
+    other.refresh();
+
+    assertTrue(other.mightContain(username));
+  }
+
+  @Test
+  @DisplayName("재생성하면 모든 계정이 filter 에 포함된다")
+  public void rebuild() {
+    UsernameFilter other = newFilter();
+    String username = createAccount();
+
+    redisTemplate.delete(UsernameFilter.RECENT_PREFIX + username);
+    other.rebuild();
+
+    assertTrue(other.mightContain(username));
+    assertFalse(other.mightContain(UUID.randomUUID() + "@freshr.run"));
+  }
+
+  /**
+   * Hibernate event 를 등록하지 않은 filter
+   *
+   * @apiNote assertFalse 가 오탐으로 실패하지 않도록 오탐 확률을 낮게 설정
+   */
+  private UsernameFilter newFilter() {
+    return new UsernameFilter(entityManager, entityManagerFactory, transactionManager,
+        redisTemplate, new SimpleMeterRegistry(), true, 0.000001, 10, 60);
+  }
+
+  private String createAccount() {
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        service.createAccount("filter", suffix, OTHERS, USER));
+
+    return "filter" + suffix + "@freshr.run";
+  }
+
+}
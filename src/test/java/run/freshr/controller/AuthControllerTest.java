@@ -1,9 +1,17 @@
 package run.freshr.controller;
 
 import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static run.freshr.common.enumerations.Gender.OTHERS;
+import static run.freshr.common.matchers.RoundTripMatchers.redisAtMost;
+import static run.freshr.common.matchers.RoundTripMatchers.sqlAtMost;
 import static run.freshr.common.utils.CryptoUtil.encryptRsa;
 import static run.freshr.common.utils.ThreadUtil.threadAccess;
 import static run.freshr.common.utils.ThreadUtil.threadPublicKey;
@@ -14,21 +22,31 @@ import static run.freshr.domain.auth.enumerations.Role.ROLE_MANAGER_MINOR;
 import static run.freshr.domain.auth.enumerations.Role.ROLE_USER;
 
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
 import run.freshr.TestRunner;
 import run.freshr.common.configurations.URIConfiguration;
 import run.freshr.common.extensions.TestExtension;
 import run.freshr.domain.auth.AuthDocs;
 import run.freshr.domain.auth.CryptoDocs;
+import run.freshr.domain.auth.dto.request.ClientTokenRequest;
 import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
 import run.freshr.domain.auth.dto.request.SignChangePasswordRequest;
 import run.freshr.domain.auth.dto.request.SignInRequest;
 import run.freshr.domain.auth.dto.request.SignUpdateRequest;
+import run.freshr.domain.auth.unit.redis.AccessRedisUnit;
 
 @DisplayName("권한 관리")
 public class AuthControllerTest extends TestExtension {
 
+  @Autowired
+  private AccessRedisUnit accessRedisUnit;
+
   @Test
   @DisplayName("RSA 공개키 조회")
   public void getPublicKey() throws Exception {
@@ -74,7 +92,94 @@ public class AuthControllerTest extends TestExtension {
             .requestFields(AuthDocs.Request.signIn())
             .responseFields(AuthDocs.Response.signIn())
             .build()))
-        .andExpect(status().isOk());
+        .andExpect(status().isOk())
+        // Unit 저장 한 번이 HMSET, SADD, EXPIRE 등 여러 명령을 보낸다.
+        .andExpect(redisAtMost(40))
+        .andExpect(sqlAtMost(4));
+  }
+
+  @Test
+  @DisplayName("Client 토큰 발급")
+  public void clientToken() throws Exception {
+    setAnonymous();
+
+    apply();
+
+    ClientTokenRequest request = ClientTokenRequest
+        .builder()
+        .clientId("batch")
+        .clientSecret("batch-secret")
+        .build();
+
+    String accessToken = JsonPath.read(POST_BODY(URIConfiguration.uriAuthClientToken, request)
+        .andDo(print())
+        .andDo(docs(ResourceSnippetParameters
+            .builder()
+            .summary("Client 토큰 발급")
+            .description(AuthDocs.Data.descriptionRole(ROLE_ANONYMOUS))
+            .requestFields(AuthDocs.Request.clientToken())
+            .responseFields(AuthDocs.Response.clientToken())
+            .build()))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString(), "$.data.accessToken");
+
+    // 남은 시간이 충분하면 같은 토큰을 재사용
+    POST_BODY(URIConfiguration.uriAuthClientToken, request)
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.accessToken").value(accessToken))
+        .andExpect(sqlAtMost(0));
+  }
+
+  @Test
+  @DisplayName("Client 토큰 발급 - 잘못된 secret")
+  public void clientTokenMismatch() throws Exception {
+    setAnonymous();
+
+    apply();
+
+    POST_BODY(URIConfiguration.uriAuthClientToken, ClientTokenRequest
+        .builder()
+        .clientId("batch")
+        .clientSecret("wrong-secret")
+        .build())
+        .andDo(print())
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("Client 토큰으로 계정 정보 조회")
+  public void getInfoClientToken() throws Exception {
+    setAnonymous();
+
+    apply();
+
+    // 테스트 설정의 batch client 는 ROLE_USER 권한이므로 권한 검사를 통과하고 service 에서 거절된다.
+    String accessToken = JsonPath.read(POST_BODY(URIConfiguration.uriAuthClientToken,
+        ClientTokenRequest
+            .builder()
+            .clientId("batch")
+            .clientSecret("batch-secret")
+            .build())
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString(), "$.data.accessToken");
+
+    mockMvc.perform(get(URIConfiguration.uriAuthInfo)
+            .header(AUTHORIZATION, "Bearer " + accessToken))
+        .andDo(print())
+        .andExpect(status().is4xxClientError());
+
+    mockMvc.perform(get(URIConfiguration.uriAuthIntrospect)
+            .header(AUTHORIZATION, "Bearer " + accessToken))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.active").value(true))
+        .andExpect(jsonPath("$.data.clientId").value("batch"))
+        .andExpect(jsonPath("$.data.id").doesNotExist());
   }
 
   @Test
@@ -94,7 +199,30 @@ public class AuthControllerTest extends TestExtension {
                 + AuthDocs.Data.descriptionRole(ROLE_MANAGER_MAJOR, ROLE_MANAGER_MINOR, ROLE_USER))
             .responseFields(AuthDocs.Response.getInfo())
             .build()))
-        .andExpect(status().isOk());
+        .andExpect(status().isOk())
+        .andExpect(redisAtMost(6))
+        .andExpect(sqlAtMost(2));
+  }
+
+  @Test
+  @DisplayName("로그인 계정 정보 조회 - CBOR")
+  public void getInfoCbor() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    MvcResult result = mockMvc.perform(get(URIConfiguration.uriAuthInfo)
+            .header(AUTHORIZATION, "Bearer " + threadAccess.get())
+            .accept(APPLICATION_CBOR))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+        .andReturn();
+
+    JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+
+    assertEquals(service.getAccount(TestRunner.userId).getUsername(),
+        body.path("data").path("username").asText());
   }
 
   @Test
@@ -218,4 +346,46 @@ public class AuthControllerTest extends TestExtension {
         .andExpect(status().isOk());
   }
 
+  @Test
+  @DisplayName("Access 토큰 갱신 - 삭제된 Access 토큰 정보")
+  public void refreshTokenAccessMissing() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    accessRedisUnit.delete(threadAccess.get());
+
+    POST_TOKEN_BODY(URIConfiguration.uriAuthRefresh,
+        threadRefresh.get(),
+        RefreshTokenRequest
+            .builder()
+            .accessToken(threadAccess.get())
+            .build())
+        .andDo(print())
+        .andExpect(status().is4xxClientError());
+  }
+
+  @Test
+  @DisplayName("Access 토큰 검증")
+  public void introspect() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    GET(URIConfiguration.uriAuthIntrospect)
+        .andDo(print())
+        .andDo(docs(ResourceSnippetParameters
+            .builder()
+            .summary("Access 토큰 검증")
+            .description(AuthDocs.Data.descriptionAuthorizationAccess()
+                + lineSeparator() + lineSeparator()
+                + AuthDocs.Data.descriptionRole(ROLE_MANAGER_MAJOR, ROLE_MANAGER_MINOR, ROLE_USER))
+            .responseFields(AuthDocs.Response.introspect())
+            .build()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.active").value(true))
+        .andExpect(redisAtMost(1))
+        .andExpect(sqlAtMost(0));
+  }
+
 }
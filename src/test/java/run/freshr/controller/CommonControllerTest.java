@@ -3,7 +3,9 @@ package run.freshr.controller;
 import static com.google.common.base.CaseFormat.LOWER_HYPHEN;
 import static com.google.common.base.CaseFormat.UPPER_CAMEL;
 import static java.lang.System.lineSeparator;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static run.freshr.domain.auth.enumerations.Role.ROLE_ANONYMOUS;
 import static run.freshr.domain.auth.enumerations.Role.ROLE_USER;
@@ -11,6 +13,7 @@ import static run.freshr.domain.auth.enumerations.Role.ROLE_USER;
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import run.freshr.common.configurations.URIConfiguration;
 import run.freshr.common.enumerations.Gender;
 import run.freshr.common.extensions.TestExtension;
@@ -20,6 +23,35 @@ import run.freshr.domain.common.EnumDocs;
 @DisplayName("공통 관리")
 class CommonControllerTest extends TestExtension {
 
+  private static final MediaType APPLICATION_SMILE = MediaType
+      .parseMediaType("application/x-jackson-smile");
+
+  @Test
+  @DisplayName("Readiness check")
+  public void getReadiness() throws Exception {
+    setAnonymous();
+
+    GET(URIConfiguration.uriCommonReadiness)
+        .andDo(print())
+        .andDo(docs(ResourceSnippetParameters
+            .builder()
+            .summary("Readiness check")
+            .description("Postgres, Redis 상태를 background 에서 확인한 결과를 반환")
+            .build()))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Readiness check - Smile")
+  public void getReadinessSmile() throws Exception {
+    setAnonymous();
+
+    mockMvc.perform(get(URIConfiguration.uriCommonReadiness).accept(APPLICATION_SMILE))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE));
+  }
+
   //  _______ .__   __.  __    __  .___  ___.
   // |   ____||  \ |  | |  |  |  | |   \/   |
   // |  |__   |   \|  | |  |  |  | |  \  /  |
@@ -0,0 +1,102 @@
+package run.freshr.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static run.freshr.common.utils.ThreadUtil.threadAccess;
+import static run.freshr.common.utils.ThreadUtil.threadRefresh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.ResultActions;
+import run.freshr.common.configurations.URIConfiguration;
+import run.freshr.common.extensions.TestExtension;
+import run.freshr.domain.auth.dto.request.RefreshTokenRequest;
+import run.freshr.domain.auth.unit.redis.AccessRedisUnit;
+
+@ActiveProfiles({"test", "reactive"})
+@DisplayName("토큰 관리 - Reactive")
+public class ReactiveTokenControllerTest extends TestExtension {
+
+  @Autowired
+  private AccessRedisUnit accessRedisUnit;
+
+  @Test
+  @DisplayName("Access 토큰 갱신")
+  public void refreshToken() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    dispatch(POST_TOKEN_BODY(URIConfiguration.uriAuthRefresh,
+        threadRefresh.get(),
+        RefreshTokenRequest
+            .builder()
+            .accessToken(threadAccess.get())
+            .build()))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.accessToken").isNotEmpty())
+        .andExpect(jsonPath("$.data.expiresIn").isNumber());
+  }
+
+  @Test
+  @DisplayName("Access 토큰 갱신 - 탈취된 Refresh 토큰")
+  public void refreshTokenMismatch() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    dispatch(POST_TOKEN_BODY(URIConfiguration.uriAuthRefresh,
+        threadRefresh.get(),
+        RefreshTokenRequest
+            .builder()
+            .accessToken("stolen-access-token")
+            .build()))
+        .andDo(print())
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("Access 토큰 갱신 - 삭제된 Access 토큰 정보")
+  public void refreshTokenAccessMissing() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    accessRedisUnit.delete(threadAccess.get());
+
+    dispatch(POST_TOKEN_BODY(URIConfiguration.uriAuthRefresh,
+        threadRefresh.get(),
+        RefreshTokenRequest
+            .builder()
+            .accessToken(threadAccess.get())
+            .build()))
+        .andDo(print())
+        .andExpect(status().is4xxClientError());
+  }
+
+  @Test
+  @DisplayName("Access 토큰 검증")
+  public void introspect() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    dispatch(GET(URIConfiguration.uriAuthIntrospect))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.active").value(true));
+  }
+
+  private ResultActions dispatch(ResultActions actions) throws Exception {
+    return mockMvc.perform(asyncDispatch(actions
+        .andExpect(request().asyncStarted())
+        .andReturn()));
+  }
+
+}
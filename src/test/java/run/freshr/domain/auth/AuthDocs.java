@@ -2,6 +2,8 @@ package run.freshr.domain.auth;
 
 import static java.lang.System.lineSeparator;
 import static java.util.Arrays.stream;
+import static org.springframework.restdocs.payload.JsonFieldType.BOOLEAN;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static run.freshr.domain.account.entity.QAccount.account;
 
@@ -29,6 +31,17 @@ public class AuthDocs {
           .getFieldList();
     }
 
+    public static List<FieldDescriptor> clientToken() {
+      return PrintUtil
+          .builder()
+
+          .field("clientId", "Client 아이디", STRING)
+          .field("clientSecret", "Client secret", STRING)
+
+          .build()
+          .getFieldList();
+    }
+
     public static List<FieldDescriptor> changePassword() {
       return PrintUtil
           .builder()
@@ -76,6 +89,18 @@ public class AuthDocs {
 
           .field("accessToken", "접속 토큰", STRING)
           .field("refreshToken", "갱신 토큰", STRING)
+          .field("expiresIn", "접속 토큰 갱신 권장 시간 (초)", NUMBER)
+
+          .build()
+          .getFieldList();
+    }
+
+    public static List<FieldDescriptor> clientToken() {
+      return ResponseDocs
+          .data()
+
+          .field("accessToken", "접속 토큰", STRING)
+          .field("expiresIn", "접속 토큰 남은 시간 (초)", NUMBER)
 
           .build()
           .getFieldList();
@@ -101,6 +126,22 @@ public class AuthDocs {
           .data()
 
           .field("accessToken", "접속 토큰", STRING)
+          .field("expiresIn", "접속 토큰 갱신 권장 시간 (초)", NUMBER)
+
+          .build()
+          .getFieldList();
+    }
+
+    public static List<FieldDescriptor> introspect() {
+      return ResponseDocs
+          .data()
+
+          .field("active", "유효 여부", BOOLEAN)
+
+          .prefixOptional()
+          .field("id", "계정 일련 번호", STRING)
+          .field("clientId", "Client 아이디 [client 토큰]", STRING)
+          .field("role", "권한", STRING)
 
           .build()
           .getFieldList();
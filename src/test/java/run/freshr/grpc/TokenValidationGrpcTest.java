@@ -0,0 +1,108 @@
+package run.freshr.grpc;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static run.freshr.common.utils.ThreadUtil.threadAccess;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import run.freshr.common.extensions.TestExtension;
+import run.freshr.grpc.proto.TokenValidationGrpc;
+import run.freshr.grpc.proto.ValidateTokenRequest;
+import run.freshr.grpc.proto.ValidateTokenResponse;
+
+@DisplayName("토큰 검증 gRPC")
+public class TokenValidationGrpcTest extends TestExtension {
+
+  @Autowired
+  private GrpcServer grpcServer;
+
+  private ManagedChannel channel;
+
+  @BeforeEach
+  public void openChannel() {
+    channel = ManagedChannelBuilder
+        .forAddress("localhost", grpcServer.getPort())
+        .usePlaintext()
+        .build();
+  }
+
+  @AfterEach
+  public void closeChannel() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, SECONDS);
+  }
+
+  @Test
+  @DisplayName("토큰 검증")
+  public void validateToken() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    TokenValidationGrpc.TokenValidationBlockingStub stub = TokenValidationGrpc
+        .newBlockingStub(channel);
+
+    ValidateTokenResponse active = stub.validateToken(request(threadAccess.get()));
+    ValidateTokenResponse inactive = stub.validateToken(request("unknown-access-token"));
+
+    assertTrue(active.getActive());
+    assertFalse(active.getId().isEmpty());
+    assertFalse(inactive.getActive());
+  }
+
+  @Test
+  @DisplayName("토큰 검증 stream")
+  public void validateTokenStream() throws Exception {
+    setSignedUser();
+
+    apply();
+
+    List<ValidateTokenResponse> responses = new CopyOnWriteArrayList<>();
+    CountDownLatch completed = new CountDownLatch(1);
+
+    StreamObserver<ValidateTokenRequest> requests = TokenValidationGrpc.newStub(channel)
+        .validateTokenStream(new StreamObserver<>() {
+          @Override
+          public void onNext(ValidateTokenResponse response) {
+            responses.add(response);
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            completed.countDown();
+          }
+
+          @Override
+          public void onCompleted() {
+            completed.countDown();
+          }
+        });
+
+    requests.onNext(request(threadAccess.get()));
+    requests.onNext(request("unknown-access-token"));
+    requests.onNext(request(threadAccess.get()));
+    requests.onCompleted();
+
+    assertTrue(completed.await(10, SECONDS));
+    assertEquals(3, responses.size());
+    assertTrue(responses.get(0).getActive());
+    assertFalse(responses.get(1).getActive());
+    assertTrue(responses.get(2).getActive());
+  }
+
+  private static ValidateTokenRequest request(String accessToken) {
+    return ValidateTokenRequest.newBuilder().setAccessToken(accessToken).build();
+  }
+
+}